@@ -87,11 +87,13 @@ export const endpoints = {
     rejectOrder: (orderId) => `/api/orders/${orderId}/reject`,
     completeOrder: (orderId) => `/api/orders/${orderId}/complete`,
     storeCancelOrder: (orderId) => `/api/orders/${orderId}/store-cancel`,
+    bulkChangeMyStoreOrderStatus: '/api/orders/my-store/bulk-status',
 
     // Chef Orders
     getChefTodayOrders: '/api/orders/chef/today',
     startCooking: (orderId) => `/api/orders/${orderId}/start-cooking`,
     readyOrder: (orderId) => `/api/orders/${orderId}/ready`,
+    bulkChangeChefOrderStatus: '/api/orders/chef/bulk-status',
 
     // Admin Orders
     adminGetOrders: '/api/admin/orders',
@@ -0,0 +1,159 @@
+/**
+ * Bulk Transition Benchmark
+ * 단건 상태 변경(PATCH /api/orders/{orderId}/accept)과
+ * 일괄 상태 변경(PATCH /api/orders/my-store/bulk-status)의 처리량 비교
+ *
+ * 사용법:
+ *   ./run.sh tests/bulk-transition.js
+ *   k6 run -e BATCH_SIZE=20 -e ROUNDS=3 tests/bulk-transition.js
+ *
+ * 사전 조건:
+ *   owner 계정 매장에 PENDING(수락 대기) 주문이 2 × BATCH_SIZE × ROUNDS 건 이상 있어야 한다.
+ *   수락된 주문은 되돌릴 수 없으므로 실행할 때마다 주문이 소모된다.
+ *
+ * 결과:
+ *   bulk_benchmark_batch_duration{mode:single|bulk} - 배치 하나(BATCH_SIZE건)를 수락하는 데 걸린 시간
+ *   bulk_benchmark_orders{mode:single|bulk}        - 수락 요청에 성공한 주문 수 (rate = 초당 처리량)
+ */
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+import exec from 'k6/execution';
+
+import { endpoints, buildUrl } from '../config/index.js';
+import { login, getAuthHeaders } from '../lib/auth.js';
+
+const BATCH_SIZE = parseInt(__ENV.BATCH_SIZE || '20', 10);
+const ROUNDS = parseInt(__ENV.ROUNDS || '3', 10);
+const ESTIMATED_TIME = parseInt(__ENV.ESTIMATED_TIME || '15', 10);
+
+// ===================== Custom Metrics =====================
+const batchDuration = new Trend('bulk_benchmark_batch_duration', true);
+const transitionedOrders = new Counter('bulk_benchmark_orders');
+
+// 두 모드가 서로 겹치지 않도록 single → bulk 순서로 실행
+export const options = {
+  scenarios: {
+    single: {
+      executor: 'per-vu-iterations',
+      vus: 1,
+      iterations: ROUNDS,
+      exec: 'singlePath',
+      maxDuration: '5m',
+    },
+    bulk: {
+      executor: 'per-vu-iterations',
+      vus: 1,
+      iterations: ROUNDS,
+      exec: 'bulkPath',
+      startTime: '5m',
+      maxDuration: '5m',
+    },
+  },
+  thresholds: {
+    'bulk_benchmark_batch_duration{mode:bulk}': ['p(95)<2000'],
+  },
+};
+
+export function setup() {
+  const { accessToken } = login('owner');
+  if (!accessToken) {
+    throw new Error('owner 로그인 실패');
+  }
+
+  const res = http.get(buildUrl(endpoints.order.getMyStoreActiveOrders), {
+    headers: getAuthHeaders(accessToken),
+    tags: { name: 'GET /api/orders/my-store/active' },
+  });
+  check(res, { 'getMyStoreActiveOrders: status is 200': (r) => r.status === 200 });
+
+  const pendingIds = (JSON.parse(res.body).result || [])
+    .filter((order) => order.orderStatus === 'PENDING')
+    .map((order) => order.id);
+
+  const required = 2 * BATCH_SIZE * ROUNDS;
+  if (pendingIds.length < required) {
+    throw new Error(`PENDING 주문이 부족합니다. 필요: ${required}, 현재: ${pendingIds.length}`);
+  }
+
+  const batches = [];
+  for (let i = 0; i < 2 * ROUNDS; i++) {
+    batches.push(pendingIds.slice(i * BATCH_SIZE, (i + 1) * BATCH_SIZE));
+  }
+
+  return {
+    accessToken,
+    singleBatches: batches.slice(0, ROUNDS),
+    bulkBatches: batches.slice(ROUNDS),
+  };
+}
+
+/**
+ * 단건 경로: 주문마다 HTTP 요청 1회 + Temporal 시그널 1회
+ */
+export function singlePath(data) {
+  const orderIds = data.singleBatches[exec.scenario.iterationInTest];
+  const payload = JSON.stringify({ estimatedTime: ESTIMATED_TIME });
+  const started = Date.now();
+  let succeeded = 0;
+
+  for (const orderId of orderIds) {
+    const res = http.patch(buildUrl(endpoints.order.acceptOrder(orderId)), payload, {
+      headers: getAuthHeaders(data.accessToken),
+      tags: { name: 'PATCH /api/orders/{orderId}/accept', mode: 'single' },
+    });
+    if (check(res, { 'acceptOrder: status is 200': (r) => r.status === 200 })) {
+      succeeded++;
+    }
+  }
+
+  batchDuration.add(Date.now() - started, { mode: 'single' });
+  transitionedOrders.add(succeeded, { mode: 'single' });
+}
+
+/**
+ * 일괄 경로: 배치당 HTTP 요청 1회, 서버에서 시그널을 제한된 병렬도로 동시 전송
+ */
+export function bulkPath(data) {
+  const orderIds = data.bulkBatches[exec.scenario.iterationInTest];
+  const payload = JSON.stringify({
+    orderIds,
+    targetStatus: 'ACCEPTED',
+    estimatedTime: ESTIMATED_TIME,
+  });
+  const started = Date.now();
+
+  const res = http.patch(buildUrl(endpoints.order.bulkChangeMyStoreOrderStatus), payload, {
+    headers: getAuthHeaders(data.accessToken),
+    tags: { name: 'PATCH /api/orders/my-store/bulk-status', mode: 'bulk' },
+  });
+  const ok = check(res, { 'bulkStatus: status is 200': (r) => r.status === 200 });
+
+  batchDuration.add(Date.now() - started, { mode: 'bulk' });
+  transitionedOrders.add(ok ? JSON.parse(res.body).result.succeeded : 0, { mode: 'bulk' });
+}
+
+export function handleSummary(data) {
+  const avg = (mode) => {
+    const metric = data.metrics[`bulk_benchmark_batch_duration{mode:${mode}}`];
+    return metric ? metric.values.avg : null;
+  };
+  const single = avg('single');
+  const bulk = avg('bulk');
+
+  const lines = [
+    '==========================================',
+    `  Bulk Transition Benchmark (batch=${BATCH_SIZE}, rounds=${ROUNDS})`,
+    '==========================================',
+  ];
+  if (single && bulk) {
+    lines.push(`single: ${single.toFixed(1)} ms/batch, ${(BATCH_SIZE / (single / 1000)).toFixed(1)} orders/s`);
+    lines.push(`bulk  : ${bulk.toFixed(1)} ms/batch, ${(BATCH_SIZE / (bulk / 1000)).toFixed(1)} orders/s`);
+    lines.push(`speedup: ${(single / bulk).toFixed(2)}x`);
+  } else {
+    lines.push('결과가 부족해 비교할 수 없습니다.');
+  }
+
+  return { stdout: lines.join('\n') + '\n' };
+}
@@ -0,0 +1,19 @@
+#!/bin/sh
+# db의 streaming replica. 데이터 디렉터리가 비어 있으면 primary에서 base backup을 받아 standby로 기동한다
+set -e
+
+if [ ! -s "$PGDATA/PG_VERSION" ]; then
+  until PGPASSWORD="$POSTGRES_PASSWORD" pg_basebackup -h db -U "$POSTGRES_USER" -D "$PGDATA" -Fp -Xs -R; do
+    echo "[db-replica] waiting for primary..."
+    sleep 2
+  done
+  chown -R postgres:postgres "$PGDATA"
+  chmod 0700 "$PGDATA"
+fi
+
+# hot standby는 max_connections 등이 primary 이상이어야 함
+exec docker-entrypoint.sh postgres \
+  -c hot_standby=on \
+  -c max_connections=300 \
+  -c max_wal_senders=10 \
+  -c max_replication_slots=10
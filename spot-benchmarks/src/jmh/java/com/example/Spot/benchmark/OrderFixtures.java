@@ -0,0 +1,127 @@
+package com.example.Spot.benchmark;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.example.Spot.global.feign.dto.MenuOptionResponse;
+import com.example.Spot.global.feign.dto.MenuResponse;
+import com.example.Spot.global.feign.dto.StoreResponse;
+import com.example.Spot.order.domain.entity.OrderEntity;
+import com.example.Spot.order.domain.entity.OrderItemEntity;
+import com.example.Spot.order.domain.entity.OrderItemOptionEntity;
+import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
+import com.example.Spot.order.presentation.dto.request.OrderItemOptionRequestDto;
+import com.example.Spot.order.presentation.dto.request.OrderItemRequestDto;
+import com.example.Spot.order.presentation.dto.response.OrderContextDto;
+
+/**
+ * 벤치마크 공통 장바구니. 메뉴 itemCount개 × 메뉴당 옵션 optionsPerItem개.
+ * 같은 크기면 항상 같은 데이터가 만들어지도록 UUID는 인덱스로 생성한다.
+ */
+public final class OrderFixtures {
+
+    public static final UUID STORE_ID = id("store", 0);
+    public static final Integer USER_ID = 1;
+    public static final LocalDateTime PICKUP_TIME = LocalDateTime.of(2026, 1, 1, 12, 30);
+
+    private OrderFixtures() {
+    }
+
+    public static OrderCreateRequestDto request(int itemCount, int optionsPerItem) {
+        List<OrderItemRequestDto> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            List<OrderItemOptionRequestDto> options = new ArrayList<>(optionsPerItem);
+            for (int j = 0; j < optionsPerItem; j++) {
+                options.add(OrderItemOptionRequestDto.builder()
+                        .menuOptionId(optionId(i, j))
+                        .build());
+            }
+            items.add(OrderItemRequestDto.builder()
+                    .menuId(id("menu", i))
+                    .quantity(1 + i % 3)
+                    .options(options)
+                    .build());
+        }
+        return OrderCreateRequestDto.builder()
+                .storeId(STORE_ID)
+                .orderItems(items)
+                .pickupTime(PICKUP_TIME)
+                .needDisposables(true)
+                .request("벤치마크 주문")
+                .build();
+    }
+
+    public static OrderContextDto context(int itemCount, int optionsPerItem) {
+        Map<UUID, MenuResponse> menuMap = new HashMap<>();
+        Map<UUID, MenuOptionResponse> optionMap = new HashMap<>();
+        for (int i = 0; i < itemCount; i++) {
+            UUID menuId = id("menu", i);
+            menuMap.put(menuId, MenuResponse.builder()
+                    .id(menuId)
+                    .storeId(STORE_ID)
+                    .name("메뉴 " + i)
+                    .price(4500 + i * 100)
+                    .build());
+            for (int j = 0; j < optionsPerItem; j++) {
+                UUID optionId = optionId(i, j);
+                optionMap.put(optionId, MenuOptionResponse.builder()
+                        .id(optionId)
+                        .menuId(menuId)
+                        .name("옵션 " + j)
+                        .detail("샷 추가")
+                        .price(500)
+                        .build());
+            }
+        }
+        return OrderContextDto.builder()
+                .store(StoreResponse.builder().id(STORE_ID).name("벤치마크 가게").build())
+                .menuMap(menuMap)
+                .optionMap(optionMap)
+                .build();
+    }
+
+    // 조회 API가 변환하는 영속 주문과 같은 모양 (주문 → 아이템 → 옵션)
+    public static OrderEntity order(int itemCount, int optionsPerItem) {
+        OrderEntity order = OrderEntity.builder()
+                .id(id("order", 0))
+                .storeId(STORE_ID)
+                .userId(USER_ID)
+                .orderNumber("ORD-20260101-0001")
+                .request("벤치마크 주문")
+                .needDisposables(true)
+                .pickupTime(PICKUP_TIME)
+                .build();
+        for (int i = 0; i < itemCount; i++) {
+            OrderItemEntity item = OrderItemEntity.builder()
+                    .menuId(id("menu", i))
+                    .menuName("메뉴 " + i)
+                    .menuPrice(BigDecimal.valueOf(4500 + i * 100L))
+                    .quantity(1 + i % 3)
+                    .build();
+            for (int j = 0; j < optionsPerItem; j++) {
+                item.addOrderItemOption(OrderItemOptionEntity.builder()
+                        .menuOptionId(optionId(i, j))
+                        .optionName("옵션 " + j)
+                        .optionDetail("샷 추가")
+                        .optionPrice(BigDecimal.valueOf(500))
+                        .build());
+            }
+            order.addOrderItem(item);
+        }
+        return order;
+    }
+
+    private static UUID optionId(int item, int option) {
+        return id("option", item * 1_000 + option);
+    }
+
+    private static UUID id(String kind, int index) {
+        return UUID.nameUUIDFromBytes((kind + ":" + index).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.Spot.order.infrastructure.event.publish;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.Spot.global.infrastructure.codec.JsonEventPayloadCodec;
+import com.example.Spot.global.infrastructure.codec.SmileEventPayloadCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+// 아웃박스 저장 시 이벤트 payload 인코딩 (OrderEventProducer.saveOutbox). 토픽 설정에 따라 JSON 또는 Smile
+@State(Scope.Benchmark)
+public class OrderCreatedEventBenchmark {
+
+    private JsonEventPayloadCodec jsonCodec;
+    private SmileEventPayloadCodec smileCodec;
+    private OrderCreatedEvent event;
+    private byte[] jsonPayload;
+    private byte[] smilePayload;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonCodec = new JsonEventPayloadCodec(JsonMapper.builder().addModule(new JavaTimeModule()).build());
+        smileCodec = new SmileEventPayloadCodec(new ObjectMapper(new SmileFactory()).registerModule(new JavaTimeModule()));
+        event = OrderCreatedEvent.builder()
+                .orderId(UUID.fromString("3f8a1c2e-6b4d-4e8f-9a1b-2c3d4e5f6a7b"))
+                .userId(1)
+                .amount(32_000L)
+                .createdAt(1_767_225_600_000L)
+                .build();
+        jsonPayload = jsonCodec.encode(event);
+        smilePayload = smileCodec.encode(event);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return jsonCodec.encode(event);
+    }
+
+    @Benchmark
+    public byte[] encodeSmile() throws IOException {
+        return smileCodec.encode(event);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent decodeJson() throws IOException {
+        return jsonCodec.decode(jsonPayload, OrderCreatedEvent.class);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent decodeSmile() throws IOException {
+        return smileCodec.decode(smilePayload, OrderCreatedEvent.class);
+    }
+}
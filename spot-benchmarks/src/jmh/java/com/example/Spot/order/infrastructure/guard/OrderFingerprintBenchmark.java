@@ -0,0 +1,33 @@
+package com.example.Spot.order.infrastructure.guard;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.Spot.benchmark.OrderFixtures;
+import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
+
+// 중복 주문 판정 키(정렬된 장바구니 문자열 + SHA-256) 생성. 다른 벤치마크처럼 대상 클래스와 같은 패키지에 둔다
+@State(Scope.Benchmark)
+public class OrderFingerprintBenchmark {
+
+    @Param({"1", "20", "200"})
+    private int itemCount;
+
+    @Param({"0", "3"})
+    private int optionsPerItem;
+
+    private OrderCreateRequestDto request;
+
+    @Setup
+    public void setUp() {
+        request = OrderFixtures.request(itemCount, optionsPerItem);
+    }
+
+    @Benchmark
+    public String fingerprint() {
+        return OrderFingerprintGuard.fingerprint(OrderFixtures.USER_ID, OrderFixtures.STORE_ID, request);
+    }
+}
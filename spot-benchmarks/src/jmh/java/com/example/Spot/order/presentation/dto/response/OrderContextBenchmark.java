@@ -0,0 +1,37 @@
+package com.example.Spot.order.presentation.dto.response;
+
+import java.math.BigDecimal;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.Spot.benchmark.OrderFixtures;
+import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
+
+// 주문 생성 응답 총액 계산 (OrderServiceImpl.createOrder). 아이템/옵션마다 BigDecimal 생성 비용이 그대로 드러난다
+@State(Scope.Benchmark)
+public class OrderContextBenchmark {
+
+    @Param({"1", "20", "200"})
+    private int itemCount;
+
+    @Param({"0", "3"})
+    private int optionsPerItem;
+
+    private OrderContextDto context;
+    private OrderCreateRequestDto request;
+
+    @Setup
+    public void setUp() {
+        context = OrderFixtures.context(itemCount, optionsPerItem);
+        request = OrderFixtures.request(itemCount, optionsPerItem);
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotalAmount() {
+        return context.calculateTotalAmount(request);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.Spot.order.presentation.dto.response;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.Spot.benchmark.OrderFixtures;
+import com.example.Spot.order.domain.entity.OrderEntity;
+
+// 주문 목록/상세 조회마다 실행되는 엔티티 → 응답 DTO 변환
+@State(Scope.Benchmark)
+public class OrderResponseBenchmark {
+
+    @Param({"1", "20", "200"})
+    private int itemCount;
+
+    @Param({"0", "3"})
+    private int optionsPerItem;
+
+    private OrderEntity order;
+
+    @Setup
+    public void setUp() {
+        order = OrderFixtures.order(itemCount, optionsPerItem);
+    }
+
+    @Benchmark
+    public OrderResponseDto from() {
+        return OrderResponseDto.from(order);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.Spot.global.infrastructure.config.datasource;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    // false면 라우팅 없이 Boot 기본 DataSource(primary 하나)를 그대로 사용
+    private boolean enabled = false;
+
+    private String url;
+    private String username;
+    private String password;
+
+    private int maximumPoolSize = 3;
+    private int minimumIdle = 1;
+
+    // 이 값보다 복제 지연이 크면 읽기 전용 트랜잭션도 primary로 보냄
+    private Duration maxLag = Duration.ofSeconds(5);
+}
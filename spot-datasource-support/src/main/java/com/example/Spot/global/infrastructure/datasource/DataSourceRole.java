@@ -0,0 +1,6 @@
+package com.example.Spot.global.infrastructure.datasource;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
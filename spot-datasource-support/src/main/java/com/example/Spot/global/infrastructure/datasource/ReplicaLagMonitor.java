@@ -0,0 +1,77 @@
+package com.example.Spot.global.infrastructure.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * replica 복제 지연을 주기적으로 측정해 라우팅 가능 여부를 결정한다.
+ * 측정에 실패하거나(replica 장애) 지연이 maxLag를 넘으면 읽기 전용 트랜잭션도 primary로 보낸다.
+ * WAL 수신/재생 위치가 같으면(따라잡은 상태) 마지막 재생 시각과 관계없이 지연 0으로 본다.
+ * (쓰기가 없는 동안 pg_last_xact_replay_timestamp()가 갱신되지 않아 지연이 커 보이는 것을 방지)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_SQL = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() THEN 0
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+            END
+            """;
+
+    private final DataSource replicaDataSource;
+    private final Duration maxLag;
+
+    // 첫 측정 전에는 replica를 쓰지 않음
+    private volatile boolean replicaUsable = false;
+    private volatile long lagMillis = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLag = maxLag;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis)
+                .description("replica 복제 지연(ms), 측정 실패 시 -1")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.replicaUsable ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        boolean usable;
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(LAG_SQL)) {
+            rs.next();
+            lagMillis = (long) rs.getDouble(1);
+            usable = lagMillis <= maxLag.toMillis();
+        } catch (Exception e) {
+            lagMillis = -1;
+            usable = false;
+            if (replicaUsable) {
+                log.warn("[replica] 지연 측정 실패, primary로 우회: {}", e.getMessage());
+            }
+        }
+        if (usable != replicaUsable) {
+            log.info("[replica] 읽기 라우팅 {} (lag={}ms, maxLag={}ms)",
+                    usable ? "replica 사용" : "primary 우회", lagMillis, maxLag.toMillis());
+        }
+        replicaUsable = usable;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.Spot.global.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 현재 트랜잭션이 읽기 전용이고 replica 지연이 허용 범위 안이면 REPLICA, 그 외(쓰기, 트랜잭션 밖, replica 지연/장애)는 PRIMARY.
+ */
+@RequiredArgsConstructor
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        return readOnly && replicaLagMonitor.isReplicaUsable() ? DataSourceRole.REPLICA : DataSourceRole.PRIMARY;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.Spot.global.infrastructure.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    @Mock private DataSource replicaDataSource;
+    @Mock private Connection connection;
+    @Mock private Statement statement;
+    @Mock private ResultSet resultSet;
+
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new ReplicaLagMonitor(replicaDataSource, Duration.ofSeconds(5), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("첫 측정 전에는 replica를 쓰지 않는다")
+    void notUsableBeforeFirstCheck() {
+        assertThat(monitor.isReplicaUsable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("지연이 max-lag 이하면 replica를 쓰고, 넘으면 primary로 우회한다")
+    void usableOnlyWithinMaxLag() throws SQLException {
+        givenLag(1_000);
+        monitor.check();
+        assertThat(monitor.isReplicaUsable()).isTrue();
+
+        givenLag(6_000);
+        monitor.check();
+        assertThat(monitor.isReplicaUsable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("지연 측정에 실패하면(replica 장애) primary로 우회한다")
+    void notUsableWhenCheckFails() throws SQLException {
+        givenLag(0);
+        monitor.check();
+        assertThat(monitor.isReplicaUsable()).isTrue();
+
+        given(replicaDataSource.getConnection()).willThrow(new SQLException("connection refused"));
+        monitor.check();
+        assertThat(monitor.isReplicaUsable()).isFalse();
+    }
+
+    private void givenLag(double lagMillis) throws SQLException {
+        given(replicaDataSource.getConnection()).willReturn(connection);
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeQuery(anyString())).willReturn(resultSet);
+        given(resultSet.next()).willReturn(true);
+        given(resultSet.getDouble(1)).willReturn(lagMillis);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.Spot.global.infrastructure.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock private ReplicaLagMonitor replicaLagMonitor;
+    @InjectMocks private ReplicaRoutingDataSource routingDataSource;
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica로 보낸다")
+    void routesReadOnlyTransactionToReplica() {
+        given(replicaLagMonitor.isReplicaUsable()).willReturn(true);
+        beginTransaction(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRole.REPLICA);
+    }
+
+    @Test
+    @DisplayName("replica 지연이 크거나 장애면 읽기 전용 트랜잭션도 primary로 보낸다")
+    void fallsBackToPrimaryWhenReplicaLags() {
+        given(replicaLagMonitor.isReplicaUsable()).willReturn(false);
+        beginTransaction(true);
+
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRole.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션과 트랜잭션 밖의 조회는 primary로 보낸다")
+    void routesWritesAndNonTransactionalToPrimary() {
+        beginTransaction(false);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRole.PRIMARY);
+
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRole.PRIMARY);
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.Spot.global.infrastructure.kafka;
+
+import java.io.IOException;
+
+/**
+ * 수신 payload(byte[]) 디코딩. 인코딩 방식(JSON/Smile)은 서비스마다 다르게 구성되므로 각 서비스의 EventPayloadCodecs가 구현한다.
+ */
+public interface RecordPayloadDecoder {
+
+    <T> T decode(byte[] payload, Class<T> type) throws IOException;
+}
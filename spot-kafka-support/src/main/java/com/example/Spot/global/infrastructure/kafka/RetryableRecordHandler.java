@@ -0,0 +1,88 @@
+package com.example.Spot.global.infrastructure.kafka;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * retry topic 리스너의 공통 처리. retry/DLT 토픽 구성(시도 횟수, backoff, 접미사)은 각 서비스가 한 곳에 정의한다.
+ * 실패 시 예외를 그대로 던져 retry topic error handler가 레코드를 다음 retry 토픽(지수 backoff) 또는 DLT로 옮기게 하므로,
+ * 실패한 레코드 때문에 메인 파티션이 멈추거나 재전달이 반복되지 않는다.
+ * 메트릭(kafka.retry.records)은 공통 태그 application으로 서비스를 구분한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetryableRecordHandler {
+
+    // RetryTopicConfigurationBuilder.dltHandlerMethod(BEAN_NAME, DLT_HANDLER_METHOD). 어노테이션 구성은 @DltHandler에서 deadLettered 호출
+    public static final String BEAN_NAME = "retryableRecordHandler";
+    public static final String DLT_HANDLER_METHOD = "deadLettered";
+
+    private static final Pattern RETRY_TIER = Pattern.compile("-retry(?:-(\\d+))?$");
+
+    private final RecordPayloadDecoder payloadDecoder;
+    private final MeterRegistry meterRegistry;
+
+    public <E> void handle(String listener, ConsumerRecord<String, byte[]> record, Acknowledgment ack,
+                           Class<E> type, Consumer<E> handler) throws IOException {
+        String tier = tierOf(record.topic());
+        E event;
+        try {
+            event = payloadDecoder.decode(record.value(), type);
+        } catch (IOException e) {
+            count(listener, tier, "undecodable");
+            throw e;
+        }
+        try {
+            handler.accept(event);
+        } catch (RuntimeException e) {
+            count(listener, tier, "failed");
+            throw e;
+        }
+        ack.acknowledge();
+        count(listener, tier, "success");
+    }
+
+    // 재시도 소진된 레코드의 DLT 핸들러. DLT에 남은 레코드는 관리자 재처리 대상이며, 리스너 구분은 원본 토픽으로 한다
+    public void deadLettered(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        String originalTopic = headerValue(record, KafkaHeaders.DLT_ORIGINAL_TOPIC);
+        log.error("[retry] 재시도 소진, DLT 적재: topic={}, key={}, 원본 topic={}, 사유={}",
+                record.topic(), record.key(), originalTopic,
+                headerValue(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE));
+        count(originalTopic != null ? originalTopic : record.topic(), "dlt", "dead-lettered");
+        ack.acknowledge();
+    }
+
+    static String tierOf(String topic) {
+        if (topic.endsWith("-dlt")) {
+            return "dlt";
+        }
+        Matcher matcher = RETRY_TIER.matcher(topic);
+        if (matcher.find()) {
+            return matcher.group(1) != null ? "retry-" + matcher.group(1) : "retry";
+        }
+        return "main";
+    }
+
+    private String headerValue(ConsumerRecord<String, byte[]> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null ? new String(header.value()) : null;
+    }
+
+    private void count(String listener, String tier, String outcome) {
+        meterRegistry.counter("kafka.retry.records",
+                "listener", listener, "tier", tier, "outcome", outcome).increment();
+    }
+}
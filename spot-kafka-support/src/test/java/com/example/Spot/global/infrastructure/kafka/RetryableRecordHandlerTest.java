@@ -0,0 +1,75 @@
+package com.example.Spot.global.infrastructure.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RetryableRecordHandlerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RetryableRecordHandler handler = new RetryableRecordHandler(new StringDecoder(), meterRegistry);
+
+    @Test
+    @DisplayName("토픽 이름으로 main / retry-n / dlt 단계를 구분한다")
+    void tierOf() {
+        assertThat(RetryableRecordHandler.tierOf("spot.order.created")).isEqualTo("main");
+        assertThat(RetryableRecordHandler.tierOf("spot.order.created-payment-retry-2")).isEqualTo("retry-2");
+        assertThat(RetryableRecordHandler.tierOf("spot.payment.succeeded-order-retry")).isEqualTo("retry");
+        assertThat(RetryableRecordHandler.tierOf("spot.order.created-payment-dlt")).isEqualTo("dlt");
+    }
+
+    @Test
+    @DisplayName("처리 실패 시 ack 하지 않고 예외를 다시 던져 다음 retry 토픽으로 넘긴다")
+    void failedRecordIsNotAcknowledged() {
+        Acknowledgment ack = mock(Acknowledgment.class);
+        ConsumerRecord<String, byte[]> record = record("spot.order.accepted-retry-0");
+
+        assertThrows(IllegalStateException.class, () -> handler.handle("order-accepted", record, ack, String.class, event -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        verify(ack, never()).acknowledge();
+        assertThat(count("order-accepted", "retry-0", "failed")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("DLT 레코드는 원본 토픽 기준으로 집계하고 ack 한다")
+    void deadLetteredCountsByOriginalTopic() {
+        Acknowledgment ack = mock(Acknowledgment.class);
+        ConsumerRecord<String, byte[]> record = record("spot.order.accepted-dlt");
+        record.headers().add(KafkaHeaders.DLT_ORIGINAL_TOPIC, "spot.order.accepted".getBytes(StandardCharsets.UTF_8));
+
+        handler.deadLettered(record, ack);
+
+        verify(ack).acknowledge();
+        assertThat(count("spot.order.accepted", "dlt", "dead-lettered")).isEqualTo(1.0);
+    }
+
+    private double count(String listener, String tier, String outcome) {
+        return meterRegistry.counter("kafka.retry.records", "listener", listener, "tier", tier, "outcome", outcome).count();
+    }
+
+    private static ConsumerRecord<String, byte[]> record(String topic) {
+        return new ConsumerRecord<>(topic, 0, 0L, "key", "payload".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static final class StringDecoder implements RecordPayloadDecoder {
+
+        @Override
+        public <T> T decode(byte[] payload, Class<T> type) {
+            return type.cast(new String(payload, StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -5,8 +5,12 @@ import java.util.UUID;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import com.example.Spot.global.feign.dto.MenuOptionResponse;
+import com.example.Spot.global.feign.dto.MenuResolveRequest;
+import com.example.Spot.global.feign.dto.MenuResolveResponse;
 import com.example.Spot.global.feign.dto.MenuResponse;
 
 @FeignClient(name = "spot-menu", url = "${feign.store.url}")
@@ -20,4 +24,8 @@ public interface MenuClient {
 
     @GetMapping("/api/internal/menus/{menuId}/exists")
     boolean existsMenuById(@PathVariable("menuId") UUID menuId);
+
+    // 주문에 포함된 메뉴/옵션을 한 번의 호출로 일괄 조회
+    @PostMapping("/api/internal/menus:resolve")
+    MenuResolveResponse resolveMenus(@RequestBody MenuResolveRequest request);
 }
@@ -0,0 +1,113 @@
+package com.example.Spot.global.feign;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.global.feign.dto.MenuOptionResponse;
+import com.example.Spot.global.feign.dto.MenuResolveRequest;
+import com.example.Spot.global.feign.dto.MenuResolveResponse;
+import com.example.Spot.global.feign.dto.MenuResponse;
+import com.example.Spot.global.feign.dto.StoreResponse;
+import com.example.Spot.global.feign.dto.StoreUserResponse;
+import com.example.Spot.global.infrastructure.config.cache.NearCacheConfig;
+
+// Store 서비스 조회 결과를 Near Cache(L1 Caffeine + L2 Redis)를 거쳐 제공
+@Component
+public class StoreCatalogReader {
+
+    private final StoreClient storeClient;
+    private final MenuClient menuClient;
+    private final CacheManager nearCacheManager;
+
+    public StoreCatalogReader(
+            StoreClient storeClient,
+            MenuClient menuClient,
+            @Qualifier(NearCacheConfig.NEAR_CACHE_MANAGER) CacheManager nearCacheManager) {
+        this.storeClient = storeClient;
+        this.menuClient = menuClient;
+        this.nearCacheManager = nearCacheManager;
+    }
+
+    @Cacheable(value = NearCacheConfig.STORE, key = "#storeId",
+            unless = "#result == null", cacheManager = NearCacheConfig.NEAR_CACHE_MANAGER)
+    public StoreResponse getStore(UUID storeId) {
+        return storeClient.getStoreById(storeId);
+    }
+
+    @Cacheable(value = NearCacheConfig.STORE_USER, key = "#userId",
+            unless = "#result == null", cacheManager = NearCacheConfig.NEAR_CACHE_MANAGER)
+    public StoreUserResponse getStoreUser(Integer userId) {
+        return storeClient.getStoreUserByUserId(userId);
+    }
+
+    @Cacheable(value = NearCacheConfig.MENU, key = "#menuId",
+            unless = "#result == null", cacheManager = NearCacheConfig.NEAR_CACHE_MANAGER)
+    public MenuResponse getMenu(UUID menuId) {
+        return menuClient.getMenuById(menuId);
+    }
+
+    @Cacheable(value = NearCacheConfig.MENU_OPTION, key = "#menuOptionId",
+            unless = "#result == null", cacheManager = NearCacheConfig.NEAR_CACHE_MANAGER)
+    public MenuOptionResponse getMenuOption(UUID menuOptionId) {
+        return menuClient.getMenuOptionById(menuOptionId);
+    }
+
+    // 캐시에 없는 메뉴/옵션만 모아서 한 번의 일괄 조회로 채움
+    public MenuResolveResponse resolveMenus(Set<UUID> menuIds, Set<UUID> menuOptionIds) {
+        Cache menuCache = nearCacheManager.getCache(NearCacheConfig.MENU);
+        Cache optionCache = nearCacheManager.getCache(NearCacheConfig.MENU_OPTION);
+
+        List<MenuResponse> menus = new ArrayList<>();
+        List<MenuOptionResponse> menuOptions = new ArrayList<>();
+        Set<UUID> missingMenuIds = new HashSet<>();
+        Set<UUID> missingOptionIds = new HashSet<>();
+
+        for (UUID menuId : menuIds) {
+            MenuResponse cached = menuCache.get(menuId, MenuResponse.class);
+            if (cached != null) {
+                menus.add(cached);
+            } else {
+                missingMenuIds.add(menuId);
+            }
+        }
+
+        for (UUID menuOptionId : menuOptionIds) {
+            MenuOptionResponse cached = optionCache.get(menuOptionId, MenuOptionResponse.class);
+            if (cached != null) {
+                menuOptions.add(cached);
+            } else {
+                missingOptionIds.add(menuOptionId);
+            }
+        }
+
+        if (!missingMenuIds.isEmpty() || !missingOptionIds.isEmpty()) {
+            MenuResolveResponse resolved = menuClient.resolveMenus(MenuResolveRequest.builder()
+                    .menuIds(missingMenuIds)
+                    .menuOptionIds(missingOptionIds)
+                    .build());
+
+            for (MenuResponse menu : resolved.getMenus()) {
+                menuCache.put(menu.getId(), menu);
+                menus.add(menu);
+            }
+            for (MenuOptionResponse menuOption : resolved.getMenuOptions()) {
+                optionCache.put(menuOption.getId(), menuOption);
+                menuOptions.add(menuOption);
+            }
+        }
+
+        return MenuResolveResponse.builder()
+                .menus(menus)
+                .menuOptions(menuOptions)
+                .build();
+    }
+}
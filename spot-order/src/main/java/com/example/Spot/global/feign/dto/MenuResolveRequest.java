@@ -0,0 +1,19 @@
+package com.example.Spot.global.feign.dto;
+
+import java.util.Set;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuResolveRequest {
+
+    private Set<UUID> menuIds;
+    private Set<UUID> menuOptionIds;
+}
@@ -0,0 +1,25 @@
+package com.example.Spot.global.feign.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MenuResolveResponse {
+
+    @Builder.Default
+    private List<MenuResponse> menus = new ArrayList<>();
+
+    @Builder.Default
+    private List<MenuOptionResponse> menuOptions = new ArrayList<>();
+}
@@ -0,0 +1,19 @@
+package com.example.Spot.global.infrastructure.codec;
+
+import java.io.IOException;
+
+/**
+ * 아웃박스/Kafka 이벤트 payload 인코딩 방식.
+ * 수신 측은 payload 앞부분만 보고 방식을 판별하므로 토픽별로 인코딩을 바꿔도 소비자 설정을 건드릴 필요가 없다.
+ */
+public interface EventPayloadCodec {
+
+    String name();
+
+    byte[] encode(Object event) throws IOException;
+
+    <T> T decode(byte[] payload, Class<T> type) throws IOException;
+
+    // payload가 이 방식으로 인코딩되었는지 (헤더/첫 바이트 기준)
+    boolean matches(byte[] payload);
+}
@@ -0,0 +1,55 @@
+package com.example.Spot.global.infrastructure.codec;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.example.Spot.global.infrastructure.config.codec.EventCodecProperties;
+import com.example.Spot.global.infrastructure.kafka.RecordPayloadDecoder;
+
+/**
+ * 토픽별 인코딩 선택과 수신 payload 디코딩.
+ * 발행은 설정(order.outbox.codec)에 따라 토픽마다 방식을 고르고, 수신은 payload 헤더로 방식을 판별한다.
+ */
+public class EventPayloadCodecs implements RecordPayloadDecoder {
+
+    // @KafkaListener(properties = ...)용. payload를 문자열로 바꾸지 않고 바이트 그대로 받는다
+    public static final String BYTES_VALUE_DESERIALIZER =
+            "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer";
+
+    private final Map<String, EventPayloadCodec> codecs;
+    private final EventCodecProperties properties;
+
+    public EventPayloadCodecs(List<EventPayloadCodec> codecs, EventCodecProperties properties) {
+        this.codecs = codecs.stream()
+                .collect(Collectors.toUnmodifiableMap(EventPayloadCodec::name, Function.identity()));
+        this.properties = properties;
+        // 잘못된 이름은 발행 시점이 아니라 기동 시점에 드러나도록 미리 확인
+        codecFor(properties.getDefaultCodec());
+        properties.getTopics().values().forEach(this::codecFor);
+    }
+
+    public byte[] encode(String topic, Object event) throws IOException {
+        return codecFor(properties.codecFor(topic)).encode(event);
+    }
+
+    @Override
+    public <T> T decode(byte[] payload, Class<T> type) throws IOException {
+        for (EventPayloadCodec codec : codecs.values()) {
+            if (codec.matches(payload)) {
+                return codec.decode(payload, type);
+            }
+        }
+        throw new IOException("지원하지 않는 이벤트 payload 형식입니다. (" + payload.length + " bytes)");
+    }
+
+    private EventPayloadCodec codecFor(String name) {
+        EventPayloadCodec codec = codecs.get(name);
+        if (codec == null) {
+            throw new IllegalStateException("알 수 없는 이벤트 codec: " + name + " (사용 가능: " + codecs.keySet() + ")");
+        }
+        return codec;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.Spot.global.infrastructure.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 관측한 응답 시간으로 동시 처리 한도를 조정하는 limiter (Gradient2 방식).
+ * 최근 window의 평균 RTT(shortRtt)가 장기 평균(longRtt)보다 커지면 큐가 쌓이고 있다고 보고 한도를 줄이고,
+ * 같거나 작으면 sqrt(limit)만큼 여유를 더해 한도를 천천히 늘린다.
+ * 한도를 넘는 요청은 대기시키지 않고 바로 거절해 Hikari/Feign 대기열이 쌓이지 않게 한다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    // 부하가 풀린 뒤 longRtt가 과거의 높은 값에 머물러 한도가 과하게 커지지 않도록 빠르게 끌어내리는 비율
+    private static final double LONG_RTT_DRIFT_DECAY = 0.95;
+    // 실패(5xx/예외)는 과부하 신호로 보고 한도를 곱셈으로 줄임
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final int longWindow;
+    private final int windowSamples;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private volatile double limit;
+
+    // 아래 필드는 this 동기화로 보호 (window가 찰 때만 갱신되므로 경합이 적음)
+    private double longRttNanos;
+    private long windowRttSum;
+    private int windowCount;
+    private int windowMaxInFlight;
+
+    public AdaptiveConcurrencyLimiter(String name, Settings settings, MeterRegistry meterRegistry) {
+        this.minLimit = settings.minLimit();
+        this.maxLimit = settings.maxLimit();
+        this.rttTolerance = settings.rttTolerance();
+        this.smoothing = settings.smoothing();
+        this.longWindow = settings.longWindow();
+        this.windowSamples = settings.windowSamples();
+        this.limit = Math.clamp(settings.initialLimit(), minLimit, maxLimit);
+
+        Gauge.builder("order.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("order.concurrency.inflight", inFlight, AtomicInteger::get)
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("order.concurrency.rejected")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 한도 안이면 permit, 한도를 넘으면 null (거절 수 집계)
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return null;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Permit(System.nanoTime(), current + 1);
+            }
+        }
+    }
+
+    // 정상 응답: RTT를 한도 계산에 반영
+    public void onSuccess(Permit permit, long rttNanos) {
+        inFlight.decrementAndGet();
+        sample(rttNanos, permit.inFlight());
+    }
+
+    // 클라이언트 오류(4xx) 등 처리 시간이 부하를 반영하지 않는 응답: 한도 계산에서 제외
+    public void onIgnore(Permit permit) {
+        inFlight.decrementAndGet();
+    }
+
+    // 서버 오류/타임아웃: 과부하 신호로 보고 한도를 줄임
+    public void onDropped(Permit permit) {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            limit = Math.max(minLimit, limit * DROP_BACKOFF);
+        }
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    // 현재 한도가 비기까지 걸릴 것으로 보이는 시간 (장기 평균 RTT 기준, 최소 1초)
+    public long retryAfterSeconds() {
+        double longRtt;
+        synchronized (this) {
+            longRtt = longRttNanos;
+        }
+        return Math.max(1, (long) Math.ceil(longRtt / TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private synchronized void sample(long rttNanos, int inFlightAtStart) {
+        windowRttSum += rttNanos;
+        windowCount++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtStart);
+        if (windowCount < windowSamples) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowCount;
+        int maxInFlight = windowMaxInFlight;
+        windowRttSum = 0;
+        windowCount = 0;
+        windowMaxInFlight = 0;
+
+        longRttNanos = longRttNanos == 0 ? shortRtt : longRttNanos + (shortRtt - longRttNanos) / longWindow;
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= LONG_RTT_DRIFT_DECAY;
+        }
+
+        // 한도의 절반도 쓰지 않는 구간의 RTT로는 한도를 늘리지 않음 (실제 부하 없이 한도만 커지는 것 방지)
+        if (maxInFlight < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.clamp(rttTolerance * longRttNanos / shortRtt, 0.5, 1.0);
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.clamp(newLimit, minLimit, maxLimit);
+    }
+
+    public record Permit(long startNanos, int inFlight) {
+    }
+
+    /**
+     * @param rttTolerance  shortRtt가 longRtt의 이 배수까지는 한도를 줄이지 않음
+     * @param smoothing     새 한도 반영 비율 (0~1)
+     * @param longWindow    longRtt 지수 평균의 window 크기 (window 수)
+     * @param windowSamples 한도를 한 번 갱신하는 데 쓰는 응답 수
+     */
+    public record Settings(int initialLimit, int minLimit, int maxLimit, double rttTolerance,
+                           double smoothing, int longWindow, int windowSamples) {
+    }
+}
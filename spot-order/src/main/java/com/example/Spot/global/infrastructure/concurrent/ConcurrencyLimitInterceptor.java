@@ -0,0 +1,65 @@
+package com.example.Spot.global.infrastructure.concurrent;
+
+import java.util.Map;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@link ConcurrencyLimited} 핸들러의 요청마다 permit을 잡고, 응답 완료 시 상태 코드에 따라 limiter에 결과를 알린다.
+ * preHandle에서 거절하므로 요청 본문 역직렬화/검증, 서비스 호출 비용 없이 부하를 덜어낸다.
+ */
+@RequiredArgsConstructor
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+    private static final String LIMITER_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".limiter";
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        ConcurrencyLimited annotation = handlerMethod.getMethodAnnotation(ConcurrencyLimited.class);
+        if (annotation == null) {
+            return true;
+        }
+        AdaptiveConcurrencyLimiter limiter = limiters.get(annotation.value());
+        if (limiter == null) {
+            throw new IllegalStateException("정의되지 않은 concurrency limiter입니다: " + annotation.value());
+        }
+
+        AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+        if (permit == null) {
+            throw new ConcurrencyLimitExceededException(limiter.retryAfterSeconds());
+        }
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        AdaptiveConcurrencyLimiter limiter = (AdaptiveConcurrencyLimiter) request.getAttribute(LIMITER_ATTRIBUTE);
+        AdaptiveConcurrencyLimiter.Permit permit = (AdaptiveConcurrencyLimiter.Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+        if (limiter == null || permit == null) {
+            return;
+        }
+        request.removeAttribute(PERMIT_ATTRIBUTE);
+
+        int status = response.getStatus();
+        if (ex != null || status >= 500) {
+            limiter.onDropped(permit);
+        } else if (status >= 400) {
+            limiter.onIgnore(permit);
+        } else {
+            limiter.onSuccess(permit, System.nanoTime() - permit.startNanos());
+        }
+    }
+}
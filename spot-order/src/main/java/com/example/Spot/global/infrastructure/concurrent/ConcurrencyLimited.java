@@ -0,0 +1,18 @@
+package com.example.Spot.global.infrastructure.concurrent;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드에 적응형 동시 처리 한도를 적용한다.
+ * 한도를 넘는 요청은 바인딩/검증 전에 429 + Retry-After로 바로 거절된다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimited {
+
+    // order.concurrency-limit.limiters의 key
+    String value();
+}
@@ -0,0 +1,94 @@
+package com.example.Spot.global.infrastructure.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 서로 독립적인 원격/DB 조회를 가상 스레드에서 동시에 실행하기 위한 진입점.
+ * 요청 단위로 {@link FanOutScope}를 열어 fork → join 하고 반드시 close 한다.
+ */
+@Component
+public class FanOutExecutor {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final MeterRegistry meterRegistry;
+
+    public FanOutExecutor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public FanOutScope open(String name, Duration deadline) {
+        return new FanOutScope(name, deadline, executor, meterRegistry);
+    }
+
+    /**
+     * items를 최대 parallelism개씩 동시에 처리하고 입력 순서대로 결과를 돌려준다.
+     * FanOutScope와 달리 한 항목의 실패가 나머지를 취소하지 않으며,
+     * 실패나 deadline 초과는 onError를 통해 해당 항목의 결과로 변환된다.
+     */
+    public <T, R> List<R> mapBounded(String name, List<T> items, int parallelism, Duration deadline,
+                                     Function<T, R> task, BiFunction<T, Throwable, R> onError) {
+        Semaphore permits = new Semaphore(Math.max(parallelism, 1));
+        long startedNanos = System.nanoTime();
+        long deadlineNanos = startedNanos + deadline.toNanos();
+
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        for (T item : items) {
+            futures.add(executor.submit(() -> {
+                permits.acquire();
+                try {
+                    return task.apply(item);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        List<R> results = new ArrayList<>(items.size());
+        try {
+            for (int i = 0; i < items.size(); i++) {
+                T item = items.get(i);
+                Future<R> future = futures.get(i);
+                try {
+                    results.add(future.get(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS));
+                } catch (ExecutionException e) {
+                    results.add(onError.apply(item, e.getCause()));
+                } catch (TimeoutException e) {
+                    future.cancel(true);
+                    results.add(onError.apply(item, e));
+                }
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(name + " 처리가 중단되었습니다.", e);
+        } finally {
+            Timer.builder("order.fanout.total")
+                    .tag("scope", name)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+        }
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.Spot.global.infrastructure.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * StructuredTaskScope.ShutdownOnFailure와 같은 규칙으로 동작하는 요청 범위 fan-out.
+ * (JDK 21에서는 preview API라 --enable-preview 없이 쓸 수 있는 형태로 구현)
+ *
+ * - 전체 작업에 하나의 deadline이 걸린다.
+ * - 어느 한 branch라도 실패하거나 deadline을 넘기면 나머지 branch는 인터럽트로 취소된다.
+ * - branch별 소요 시간은 order.fanout.branch{scope,branch,outcome} 타이머로 기록된다.
+ */
+public class FanOutScope implements AutoCloseable {
+
+    private final String name;
+    private final long deadlineNanos;
+    private final ExecutorCompletionService<Object> completionService;
+    private final MeterRegistry meterRegistry;
+    private final RequestAttributes requestAttributes;
+    private final List<Future<Object>> futures = new ArrayList<>();
+    private final long startedNanos = System.nanoTime();
+
+    FanOutScope(String name, Duration deadline, ExecutorService executor, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.deadlineNanos = startedNanos + deadline.toNanos();
+        this.completionService = new ExecutorCompletionService<>(executor);
+        this.meterRegistry = meterRegistry;
+        // Feign 헤더 전달(FeignHeaderRelayInterceptor)이 요청 컨텍스트에 의존하므로 branch 스레드로 넘겨준다
+        this.requestAttributes = RequestContextHolder.getRequestAttributes();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Branch<T> fork(String branch, Callable<T> task) {
+        Future<Object> future = completionService.submit(() -> runBranch(branch, (Callable<Object>) task));
+        futures.add(future);
+        return new Branch<>(future);
+    }
+
+    /**
+     * 모든 branch가 끝날 때까지 기다린다. 첫 실패의 원인 예외를 그대로 던진다.
+     */
+    public void join() throws Exception {
+        try {
+            for (int done = 0; done < futures.size(); done++) {
+                long remaining = deadlineNanos - System.nanoTime();
+                Future<Object> completed = completionService.poll(Math.max(remaining, 0), TimeUnit.NANOSECONDS);
+                if (completed == null) {
+                    cancelAll();
+                    throw new IllegalStateException(name + " 조회가 제한 시간(" + elapsedMillis() + "ms) 내에 완료되지 않았습니다.");
+                }
+                try {
+                    completed.get();
+                } catch (ExecutionException e) {
+                    cancelAll();
+                    throw unwrap(e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            cancelAll();
+            Thread.currentThread().interrupt();
+            throw e;
+        } finally {
+            Timer.builder("order.fanout.total")
+                    .tag("scope", name)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+    }
+
+    private Object runBranch(String branch, Callable<Object> task) throws Exception {
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        long start = System.nanoTime();
+        String outcome = "success";
+        try {
+            return task.call();
+        } catch (InterruptedException | CancellationException e) {
+            outcome = "cancelled";
+            throw e;
+        } catch (Exception e) {
+            outcome = Thread.currentThread().isInterrupted() ? "cancelled" : "failure";
+            throw e;
+        } finally {
+            Timer.builder("order.fanout.branch")
+                    .tag("scope", name)
+                    .tag("branch", branch)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+    private void cancelAll() {
+        for (Future<Object> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
+    }
+
+    private static Exception unwrap(Throwable cause) {
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        if (cause instanceof Exception exception) {
+            return exception;
+        }
+        return new CompletionException(cause);
+    }
+
+    public static final class Branch<T> {
+
+        private final Future<Object> future;
+
+        private Branch(Future<Object> future) {
+            this.future = future;
+        }
+
+        /**
+         * join()이 정상 반환된 이후에만 호출한다.
+         */
+        @SuppressWarnings("unchecked")
+        public T get() {
+            if (!future.isDone()) {
+                throw new IllegalStateException("join() 이전에는 결과를 조회할 수 없습니다.");
+            }
+            try {
+                return (T) future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.Spot.global.infrastructure.config.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+@EnableConfigurationProperties(NearCacheProperties.class)
+public class NearCacheConfig {
+
+    public static final String NEAR_CACHE_MANAGER = "nearCacheManager";
+
+    public static final String STORE = "order:store";
+    public static final String STORE_USER = "order:store-user";
+    public static final String MENU = "order:menu";
+    public static final String MENU_OPTION = "order:menu-option";
+
+    public static final List<String> CACHE_NAMES = List.of(STORE, STORE_USER, MENU, MENU_OPTION);
+
+    @Bean(NEAR_CACHE_MANAGER)
+    public CacheManager nearCacheManager(
+            @Qualifier("redisCacheManager") CacheManager redisCacheManager,
+            NearCacheProperties properties,
+            MeterRegistry meterRegistry) {
+
+        List<Cache> caches = new ArrayList<>();
+        for (String cacheName : CACHE_NAMES) {
+            NearCacheProperties.Spec spec = properties.getSpec(cacheName);
+            if (!spec.isEnabled()) {
+                caches.add(new NoOpCache(cacheName));
+                continue;
+            }
+
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder()
+                    .expireAfterWrite(spec.getLocalTtl())
+                    .maximumSize(spec.getLocalMaxSize())
+                    .recordStats()
+                    .build();
+
+            // cache.gets{result=hit|miss}, cache.evictions 등 L1 통계 노출
+            CaffeineCacheMetrics.monitor(meterRegistry, local, cacheName);
+
+            caches.add(new TwoLevelCache(cacheName, local, redisCacheManager.getCache(cacheName), meterRegistry));
+        }
+
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(caches);
+        return cacheManager;
+    }
+}
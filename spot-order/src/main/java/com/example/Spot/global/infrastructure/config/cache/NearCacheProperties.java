@@ -0,0 +1,34 @@
+package com.example.Spot.global.infrastructure.config.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.cache.near")
+public class NearCacheProperties {
+
+    // 캐시 이름별 설정 (설정이 없는 캐시는 기본값 사용)
+    private Map<String, Spec> caches = new HashMap<>();
+
+    public Spec getSpec(String cacheName) {
+        return caches.getOrDefault(cacheName, new Spec());
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private boolean enabled = true;
+        // L1 (in-process) 설정
+        private Duration localTtl = Duration.ofSeconds(30);
+        private long localMaxSize = 1_000;
+        // L2 (Redis) 설정
+        private Duration remoteTtl = Duration.ofMinutes(10);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.Spot.global.infrastructure.config.codec;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.outbox.codec")
+public class EventCodecProperties {
+
+    // 토픽별 설정이 없을 때 쓰는 인코딩
+    private String defaultCodec = "json";
+
+    // 토픽 이름별 인코딩 (json, smile)
+    private Map<String, String> topics = new HashMap<>();
+
+    public String codecFor(String topic) {
+        return topics.getOrDefault(topic, defaultCodec);
+    }
+}
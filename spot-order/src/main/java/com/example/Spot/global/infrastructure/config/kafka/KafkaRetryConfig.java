@@ -0,0 +1,46 @@
+package com.example.Spot.global.infrastructure.config.kafka;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.retrytopic.RetryTopicBeanNames;
+
+@Configuration
+public class KafkaRetryConfig {
+
+    // 배치 리스너가 실패 레코드를 넘기는 진입 토픽 접미사. {원본 토픽}-order 를 @OrderRetryableTopic 리스너가 받아 retry/DLT 단계로 이어간다
+    public static final String ORDER_RETRY_ENTRY_SUFFIX = "-order";
+
+    /**
+     * retry/DLT 토픽 발행과 DLT 재처리에 쓰는 템플릿.
+     * 수신한 byte[] payload(JSON/Smile)를 변환 없이 그대로 옮겨야 하므로 value는 ByteArraySerializer를 쓴다.
+     * 반환 타입을 KafkaOperations로 두어 Boot 기본 KafkaTemplate(String) 자동 구성은 그대로 유지된다.
+     */
+    @Bean(RetryTopicBeanNames.DEFAULT_KAFKA_TEMPLATE_BEAN_NAME)
+    public KafkaOperations<String, byte[]> retryKafkaTemplate(ProducerFactory<Object, Object> producerFactory) {
+        Map<String, Object> props = new HashMap<>(producerFactory.getConfigurationProperties());
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props, new StringSerializer(), new ByteArraySerializer()));
+    }
+
+    @Bean
+    public KafkaAdmin.NewTopics orderRetryEntryTopics(
+            @Value("${spring.kafka.topic.payment.succeeded}") String paymentSucceeded,
+            @Value("${spring.kafka.topic.payment.refunded}") String paymentRefunded,
+            @Value("${order.kafka.topics.partitions:12}") int partitions,
+            @Value("${order.kafka.topics.replicas:1}") int replicas) {
+        return new KafkaAdmin.NewTopics(
+                TopicBuilder.name(paymentSucceeded + ORDER_RETRY_ENTRY_SUFFIX).partitions(partitions).replicas(replicas).build(),
+                TopicBuilder.name(paymentRefunded + ORDER_RETRY_ENTRY_SUFFIX).partitions(partitions).replicas(replicas).build());
+    }
+}
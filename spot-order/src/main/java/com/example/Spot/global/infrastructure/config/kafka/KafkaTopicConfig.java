@@ -0,0 +1,44 @@
+package com.example.Spot.global.infrastructure.config.kafka;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+/**
+ * spot-order가 발행(아웃박스)하는 토픽 선언. KafkaAdmin이 기동 시 없으면 만들고, 파티션 수가 적으면 늘린다.
+ * 레코드 key는 아웃박스 aggregate_id(orderId)이므로 같은 주문의 이벤트는 항상 같은 파티션으로 가고,
+ * 소비 측은 파티션 수(= 그룹 전체 컨슈머 스레드 상한)까지 인스턴스/리스너 concurrency를 늘릴 수 있다.
+ * 파티션을 늘리면 기존 key의 파티션이 바뀌므로, 처리 중인 주문이 적은 시점에 변경해야 한다.
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    @Value("${order.kafka.topics.partitions:12}")
+    private int partitions;
+
+    @Value("${order.kafka.topics.replicas:1}")
+    private int replicas;
+
+    @Bean
+    public KafkaAdmin.NewTopics orderTopics(
+            @Value("${spring.kafka.topic.order.created}") String created,
+            @Value("${spring.kafka.topic.order.pending}") String pending,
+            @Value("${spring.kafka.topic.order.accepted}") String accepted,
+            @Value("${spring.kafka.topic.order.cancelled}") String cancelled) {
+        return new KafkaAdmin.NewTopics(
+                topic(created),
+                topic(pending),
+                topic(accepted),
+                topic(cancelled));
+    }
+
+    private NewTopic topic(String name) {
+        return TopicBuilder.name(name)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+}
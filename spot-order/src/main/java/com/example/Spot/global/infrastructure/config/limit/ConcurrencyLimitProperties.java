@@ -0,0 +1,37 @@
+package com.example.Spot.global.infrastructure.config.limit;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.example.Spot.global.infrastructure.concurrent.AdaptiveConcurrencyLimiter;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    // @ConcurrencyLimited 이름별 설정
+    private Map<String, Spec> limiters = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private int initialLimit = 10;
+        private int minLimit = 2;
+        private int maxLimit = 100;
+        private double rttTolerance = 1.5;
+        private double smoothing = 0.2;
+        private int longWindow = 60;
+        private int windowSamples = 10;
+
+        public AdaptiveConcurrencyLimiter.Settings toSettings() {
+            return new AdaptiveConcurrencyLimiter.Settings(
+                    initialLimit, minLimit, maxLimit, rttTolerance, smoothing, longWindow, windowSamples);
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package com.example.Spot.global.infrastructure.config.redis;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -13,6 +16,8 @@ import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSeriali
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.example.Spot.global.infrastructure.config.cache.NearCacheConfig;
+import com.example.Spot.global.infrastructure.config.cache.NearCacheProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
@@ -23,7 +28,8 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 public class RedisConfig {
 
     @Bean
-    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+    @Primary
+    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory, NearCacheProperties nearCacheProperties) {
         // 1. 날짜 처리를 위한 ObjectMapper 설정
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule()); // 날짜 모듈 등록
@@ -44,8 +50,15 @@ public class RedisConfig {
             .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer)) // 커스텀 시리얼라이저 적용
             .entryTtl(Duration.ofMinutes(10));
 
+        // 4. Near Cache(L2)로 쓰이는 캐시는 캐시별 TTL 적용
+        Map<String, RedisCacheConfiguration> nearCacheConfigs = new HashMap<>();
+        for (String cacheName : NearCacheConfig.CACHE_NAMES) {
+            nearCacheConfigs.put(cacheName, config.entryTtl(nearCacheProperties.getSpec(cacheName).getRemoteTtl()));
+        }
+
         return RedisCacheManager.builder(connectionFactory)
             .cacheDefaults(config)
+            .withInitialCacheConfigurations(nearCacheConfigs)
             .build();
     }
 }
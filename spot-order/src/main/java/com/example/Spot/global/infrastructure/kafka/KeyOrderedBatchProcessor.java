@@ -0,0 +1,202 @@
+package com.example.Spot.global.infrastructure.kafka;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.global.infrastructure.codec.EventPayloadCodecs;
+import com.example.Spot.global.infrastructure.concurrent.FanOutExecutor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 배치 리스너가 받은 레코드를 키(orderId 등)별로 묶어 가상 스레드에서 동시에 처리한다.
+ * 같은 키의 레코드는 한 스레드에서 offset 순서대로 처리되고, 앞 레코드가 실패하면 뒤 레코드는 처리하지 않는다.
+ * 실패한 레코드(와 같은 키의 뒤 레코드)는 retryTopic으로 넘기고 배치 전체를 ack 하므로 메인 파티션은 막히지 않는다.
+ * 키별 순서는 한 배치 안에서만 보장된다. retryTopic으로 넘어간 키를 기억해 두지 않으므로 다음 배치의 같은 키 레코드는
+ * retry 쪽 레코드를 기다리지 않고 바로 처리되고, retry 토픽끼리도 backoff 중인 레코드를 다음 레코드가 앞지를 수 있다.
+ * 따라서 retryTopic을 쓰는 핸들러는 이벤트가 뒤늦게 도착해도 안전해야 한다.
+ * retryTopic이 없거나 넘기기에 실패하면 가장 앞선 실패 직전까지(연속 성공 구간)만 커밋한 뒤 나머지를 nack 으로 재전달받는다.
+ * 이 경우 이미 성공한 뒤쪽 레코드도 다시 전달되므로 핸들러는 멱등이어야 한다.
+ * 디코딩할 수 없는 레코드는 재시도해도 성공할 수 없으므로 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeyOrderedBatchProcessor {
+
+    private static final int NO_FAILURE = Integer.MAX_VALUE;
+    private static final Duration FORWARD_TIMEOUT = Duration.ofSeconds(10);
+
+    private final FanOutExecutor fanOutExecutor;
+    private final EventPayloadCodecs eventPayloadCodecs;
+    private final MeterRegistry meterRegistry;
+    private final KafkaOperations<String, byte[]> retryKafkaTemplate;
+
+    private final Map<String, AtomicLong> lagGauges = new ConcurrentHashMap<>();
+
+    @Value("${order.kafka.batch.parallelism:16}")
+    private int parallelism;
+
+    // max.poll.interval.ms(5분) 안에 다음 poll이 가능하도록 배치 처리 시간 상한
+    @Value("${order.kafka.batch.deadline:30s}")
+    private Duration deadline;
+
+    @Value("${order.kafka.batch.retry-backoff:1s}")
+    private Duration retryBackoff;
+
+    public <E> void process(String listener, List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack,
+                            Consumer<?, ?> consumer, Class<E> type, Function<E, ?> keyOf,
+                            java.util.function.Consumer<E> handler) {
+        process(listener, records, ack, consumer, type, keyOf, handler, null);
+    }
+
+    public <E> void process(String listener, List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack,
+                            Consumer<?, ?> consumer, Class<E> type, Function<E, ?> keyOf,
+                            java.util.function.Consumer<E> handler, String retryTopic) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        recordLag(listener, records, consumer);
+
+        List<E> events = new ArrayList<>(records.size());
+        Map<Object, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            E event = decode(listener, records.get(i), type);
+            events.add(event);
+            if (event != null) {
+                groups.computeIfAbsent(keyOf.apply(event), key -> new ArrayList<>()).add(i);
+            }
+        }
+
+        List<List<Integer>> groupIndexes = List.copyOf(groups.values());
+        AtomicInteger succeeded = new AtomicInteger();
+        List<Integer> failures = fanOutExecutor.mapBounded(listener, groupIndexes, parallelism, deadline,
+                indexes -> handleInOrder(listener, records, events, indexes, handler, succeeded),
+                (indexes, error) -> {
+                    log.warn("[{}] 배치 처리 제한 시간 초과 또는 중단: offset={}", listener, records.get(indexes.get(0)).offset(), error);
+                    return indexes.get(0);
+                });
+        int firstFailure = failures.stream().mapToInt(Integer::intValue).min().orElse(NO_FAILURE);
+
+        if (firstFailure == NO_FAILURE) {
+            ack.acknowledge();
+        } else if (retryTopic != null && forward(listener, retryTopic, records, groupIndexes, failures)) {
+            ack.acknowledge();
+        } else {
+            // firstFailure 이전 레코드의 offset은 커밋되고, 이후 레코드는 retryBackoff 뒤 다시 poll 된다
+            ack.nack(firstFailure, retryBackoff);
+            count(listener, "redelivered", records.size() - firstFailure);
+        }
+        count(listener, "success", succeeded.get());
+        sample.stop(Timer.builder("order.kafka.batch.processing")
+                .tag("listener", listener)
+                .register(meterRegistry));
+    }
+
+    // 실패한 레코드의 배치 내 index (없으면 NO_FAILURE)
+    private <E> int handleInOrder(String listener, List<ConsumerRecord<String, byte[]>> records, List<E> events,
+                                  List<Integer> indexes, java.util.function.Consumer<E> handler, AtomicInteger succeeded) {
+        for (int index : indexes) {
+            try {
+                handler.accept(events.get(index));
+                succeeded.incrementAndGet();
+            } catch (RuntimeException e) {
+                ConsumerRecord<String, byte[]> record = records.get(index);
+                log.error("[{}] 레코드 처리 실패, 재전달 예정: partition={}, offset={}",
+                        listener, record.partition(), record.offset(), e);
+                return index;
+            }
+        }
+        return NO_FAILURE;
+    }
+
+    // 키별로 실패 레코드부터 그 뒤 레코드까지를 key 그대로 retryTopic에 발행. 같은 키는 한 파티션에 순서대로 쌓이지만 이후 메인 토픽의 레코드와의 순서는 보장하지 않음
+    private boolean forward(String listener, String retryTopic, List<ConsumerRecord<String, byte[]>> records,
+                            List<List<Integer>> groupIndexes, List<Integer> failures) {
+        List<Integer> forwarded = new ArrayList<>();
+        for (int g = 0; g < groupIndexes.size(); g++) {
+            int failure = failures.get(g);
+            groupIndexes.get(g).stream().filter(index -> index >= failure).forEach(forwarded::add);
+        }
+        forwarded.sort(null);
+
+        try {
+            for (int index : forwarded) {
+                ConsumerRecord<String, byte[]> record = records.get(index);
+                retryKafkaTemplate.send(new ProducerRecord<>(retryTopic, null, record.key(), record.value(), record.headers()))
+                        .get(FORWARD_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("[{}] retry 토픽 전송 중단, 재전달로 대체: {}", listener, retryTopic, e);
+            return false;
+        } catch (ExecutionException | TimeoutException | RuntimeException e) {
+            log.error("[{}] retry 토픽 전송 실패, 재전달로 대체: {}", listener, retryTopic, e);
+            return false;
+        }
+        count(listener, "forwarded", forwarded.size());
+        return true;
+    }
+
+    private <E> E decode(String listener, ConsumerRecord<String, byte[]> record, Class<E> type) {
+        try {
+            return eventPayloadCodecs.decode(record.value(), type);
+        } catch (IOException | RuntimeException e) {
+            log.error("[{}] 메시지 파싱 에러 - 건너뜀: partition={}, offset={}", listener, record.partition(), record.offset(), e);
+            count(listener, "skipped", 1);
+            return null;
+        }
+    }
+
+    // 리스너 스레드에서만 호출 (KafkaConsumer는 thread-safe 하지 않음). currentLag는 브로커 호출 없이 캐시된 값을 쓴다
+    private void recordLag(String listener, List<ConsumerRecord<String, byte[]>> records, Consumer<?, ?> consumer) {
+        Set<TopicPartition> partitions = new LinkedHashSet<>();
+        records.forEach(record -> partitions.add(new TopicPartition(record.topic(), record.partition())));
+
+        for (TopicPartition partition : partitions) {
+            consumer.currentLag(partition).ifPresent(lag -> lagGauge(listener, partition).set(lag));
+        }
+    }
+
+    private AtomicLong lagGauge(String listener, TopicPartition partition) {
+        return lagGauges.computeIfAbsent(listener + ":" + partition, key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder("order.kafka.consumer.lag", value, AtomicLong::get)
+                    .tag("listener", listener)
+                    .tag("partition", String.valueOf(partition.partition()))
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+
+    private void count(String listener, String outcome, int amount) {
+        if (amount <= 0) {
+            return;
+        }
+        meterRegistry.counter("order.kafka.records", "listener", listener, "outcome", outcome).increment(amount);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.Spot.global.infrastructure.kafka;
+
+import java.io.IOException;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.retry.annotation.Backoff;
+
+/**
+ * 주문 서비스 레코드 리스너의 non-blocking 재시도 설정 (spot-order.yml의 order.kafka.retry).
+ * {토픽}{retryTopicSuffix}-0..n (지수 backoff) 후 {토픽}{dltTopicSuffix}. 역직렬화 실패(IOException)는 재시도해도 같으므로 바로 DLT로 보낸다.
+ * 같은 토픽을 여러 그룹이 구독하면(주문 수락 고객/요리사) 리스너마다 다른 접미사를 줘서 retry 토픽이 그룹끼리 섞이지 않게 한다.
+ * DLT 레코드는 리스너 클래스의 @DltHandler(RetryableRecordHandler.deadLettered)가 받는다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@RetryableTopic(attempts = "${order.kafka.retry.attempts:4}",
+        backoff = @Backoff(delayExpression = "${order.kafka.retry.delay-ms:1000}",
+                multiplierExpression = "${order.kafka.retry.multiplier:5}",
+                maxDelayExpression = "${order.kafka.retry.max-delay-ms:60000}"),
+        numPartitions = "${order.kafka.topics.partitions:12}", replicationFactor = "${order.kafka.topics.replicas:1}",
+        topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+        exclude = IOException.class, traversingCauses = "true")
+public @interface OrderRetryableTopic {
+
+    @AliasFor(annotation = RetryableTopic.class, attribute = "retryTopicSuffix")
+    String retryTopicSuffix() default "-retry";
+
+    @AliasFor(annotation = RetryableTopic.class, attribute = "dltTopicSuffix")
+    String dltTopicSuffix() default "-dlt";
+}
@@ -1,12 +1,17 @@
 package com.example.Spot.global.presentation.advice;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
+import com.example.Spot.global.infrastructure.concurrent.ConcurrencyLimitExceededException;
 import com.example.Spot.global.presentation.ApiResponse;
 import com.example.Spot.global.presentation.code.GeneralErrorCode;
+import com.example.Spot.order.domain.exception.IdempotencyKeyInProgressException;
+import com.example.Spot.order.domain.exception.PickupSlotFullException;
+import com.example.Spot.order.presentation.dto.response.PickupSlotFullResponseDto;
 
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
@@ -85,6 +90,42 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.onFailure(GeneralErrorCode.CONFLICT, e.getMessage()));
     }
     
+    // 클라이언트가 바로 다시 주문할 수 있도록 다음 예약 가능 시간대를 함께 반환
+    @ExceptionHandler(PickupSlotFullException.class)
+    public ResponseEntity<ApiResponse<?>> handlePickupSlotFull(PickupSlotFullException e) {
+
+        log.warn("[PickupSlotFullException] requested={}, next={}",
+                e.getRequestedPickupTime(), e.getNextAvailablePickupTime());
+
+        return ResponseEntity
+                .status(GeneralErrorCode.PICKUP_SLOT_FULL.getStatus())
+                .body(ApiResponse.onFailure(GeneralErrorCode.PICKUP_SLOT_FULL, PickupSlotFullResponseDto.builder()
+                        .requestedPickupTime(e.getRequestedPickupTime())
+                        .nextAvailablePickupTime(e.getNextAvailablePickupTime())
+                        .build()));
+    }
+
+    @ExceptionHandler(IdempotencyKeyInProgressException.class)
+    public ResponseEntity<ApiResponse<?>> handleIdempotencyKeyInProgress(IdempotencyKeyInProgressException e) {
+
+        log.warn("[IdempotencyKeyInProgressException] {}", e.getMessage());
+
+        return ResponseEntity
+                .status(GeneralErrorCode.IDEMPOTENCY_IN_PROGRESS.getStatus())
+                .body(ApiResponse.onFailure(GeneralErrorCode.IDEMPOTENCY_IN_PROGRESS, e.getMessage()));
+    }
+
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ApiResponse<?>> handleConcurrencyLimitExceeded(ConcurrencyLimitExceededException e) {
+
+        log.warn("[ConcurrencyLimitExceededException] retryAfter={}s", e.getRetryAfterSeconds());
+
+        return ResponseEntity
+                .status(GeneralErrorCode.TOO_MANY_REQUESTS.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.onFailure(GeneralErrorCode.TOO_MANY_REQUESTS, null));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<?>> handleUnexpectedException(Exception e) {
 
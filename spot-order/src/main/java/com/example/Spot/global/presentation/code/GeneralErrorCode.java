@@ -40,6 +40,18 @@ public enum GeneralErrorCode implements BaseErrorCode {
     CONFLICT(HttpStatus.CONFLICT,
             "COMMON409_1",
             "중복된 리소스입니다."),
+
+    PICKUP_SLOT_FULL(HttpStatus.CONFLICT,
+            "COMMON409_2",
+            "선택한 픽업 시간대의 주문이 마감되었습니다."),
+
+    IDEMPOTENCY_IN_PROGRESS(HttpStatus.CONFLICT,
+            "COMMON409_3",
+            "같은 Idempotency-Key의 요청이 처리 중입니다."),
+
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS,
+            "COMMON429_1",
+            "요청이 많아 잠시 후 다시 시도해 주세요."),
     
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR,
             "COMMON500_1",
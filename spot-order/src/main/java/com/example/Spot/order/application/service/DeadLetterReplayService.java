@@ -0,0 +1,146 @@
+package com.example.Spot.order.application.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.stereotype.Service;
+
+import com.example.Spot.order.presentation.dto.response.DeadLetterReplayResponseDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DLT에 쌓인 레코드를 해당 리스너의 첫 번째 retry 토픽({이름}-dlt → {이름}-retry-0)으로 다시 발행한다.
+ * 원본 토픽이 아니라 리스너 전용 retry 토픽으로 보내므로 같은 토픽을 구독하는 다른 그룹에는 중복 전달되지 않는다.
+ * 어디까지 재처리했는지는 전용 consumer group의 커밋 offset으로 남겨, 같은 레코드를 두 번 재처리하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeadLetterReplayService {
+
+    private static final String DLT_SUFFIX = "-dlt";
+    private static final String FIRST_RETRY_SUFFIX = "-retry-0";
+    private static final String REPLAY_GROUP = "order-dlt-replay";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(10);
+    private static final int MAX_EMPTY_POLLS = 3;
+    private static final int MAX_MESSAGES_LIMIT = 5_000;
+
+    private final ConsumerFactory<Object, Object> consumerFactory;
+    private final KafkaOperations<String, byte[]> retryKafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public DeadLetterReplayResponseDto replay(String dltTopic, int maxMessages) {
+        if (dltTopic == null || !dltTopic.endsWith(DLT_SUFFIX)) {
+            throw new IllegalArgumentException("DLT 토픽(-dlt)만 재처리할 수 있습니다.");
+        }
+        if (maxMessages < 1 || maxMessages > MAX_MESSAGES_LIMIT) {
+            throw new IllegalArgumentException("재처리 건수는 1~" + MAX_MESSAGES_LIMIT + " 사이여야 합니다.");
+        }
+        String targetTopic = dltTopic.substring(0, dltTopic.length() - DLT_SUFFIX.length()) + FIRST_RETRY_SUFFIX;
+
+        try (KafkaConsumer<String, byte[]> consumer = createConsumer()) {
+            List<PartitionInfo> partitionInfos = consumer.partitionsFor(dltTopic);
+            if (partitionInfos == null || partitionInfos.isEmpty()) {
+                throw new IllegalArgumentException("존재하지 않는 DLT 토픽입니다: " + dltTopic);
+            }
+            List<TopicPartition> partitions = partitionInfos.stream()
+                    .map(info -> new TopicPartition(dltTopic, info.partition()))
+                    .toList();
+            consumer.assign(partitions);
+
+            // 요청 시점까지 쌓인 레코드만 재처리 (재처리 중 새로 들어온 DLT 레코드는 다음 요청에서)
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(Set.copyOf(partitions));
+            for (TopicPartition partition : partitions) {
+                OffsetAndMetadata offset = committed.get(partition);
+                if (offset != null) {
+                    consumer.seek(partition, offset.offset());
+                } else {
+                    consumer.seekToBeginning(List.of(partition));
+                }
+            }
+
+            int replayed = 0;
+            int emptyPolls = 0;
+            Map<TopicPartition, OffsetAndMetadata> processed = new HashMap<>();
+            while (replayed < maxMessages && emptyPolls < MAX_EMPTY_POLLS && !caughtUp(consumer, partitions, endOffsets)) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(POLL_TIMEOUT);
+                emptyPolls = records.isEmpty() ? emptyPolls + 1 : 0;
+
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    if (replayed >= maxMessages || record.offset() >= endOffsets.get(partition)) {
+                        continue;
+                    }
+                    // retry/예외 헤더는 버리고 key/payload만 옮겨 첫 번째 retry 단계부터 다시 시작
+                    send(new ProducerRecord<>(targetTopic, null, record.key(), record.value()));
+                    processed.put(partition, new OffsetAndMetadata(record.offset() + 1));
+                    replayed++;
+                }
+                if (!processed.isEmpty()) {
+                    consumer.commitSync(processed);
+                }
+            }
+
+            long remaining = partitions.stream()
+                    .mapToLong(partition -> endOffsets.get(partition) - consumer.position(partition))
+                    .map(count -> Math.max(count, 0))
+                    .sum();
+            meterRegistry.counter("order.kafka.dlt.replayed", "topic", dltTopic).increment(replayed);
+            log.info("[DLT 재처리] {} -> {}: {}건 재발행, 남은 건수 {}", dltTopic, targetTopic, replayed, remaining);
+
+            return DeadLetterReplayResponseDto.builder()
+                    .dltTopic(dltTopic)
+                    .targetTopic(targetTopic)
+                    .replayed(replayed)
+                    .remaining(remaining)
+                    .build();
+        }
+    }
+
+    private boolean caughtUp(KafkaConsumer<String, byte[]> consumer, List<TopicPartition> partitions,
+                             Map<TopicPartition, Long> endOffsets) {
+        return partitions.stream().allMatch(partition -> consumer.position(partition) >= endOffsets.get(partition));
+    }
+
+    private void send(ProducerRecord<String, byte[]> record) {
+        try {
+            retryKafkaTemplate.send(record).get(SEND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("DLT 재처리가 중단되었습니다.", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("DLT 재처리 발행에 실패했습니다: " + record.topic(), e);
+        }
+    }
+
+    private KafkaConsumer<String, byte[]> createConsumer() {
+        Map<String, Object> props = new HashMap<>(consumerFactory.getConfigurationProperties());
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, REPLAY_GROUP);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        return new KafkaConsumer<>(props, new StringDeserializer(), new ByteArrayDeserializer());
+    }
+}
@@ -16,9 +16,10 @@ import com.example.Spot.global.feign.dto.OrderResponse;
 import com.example.Spot.global.feign.dto.OrderStatsResponse;
 import com.example.Spot.order.domain.entity.OrderEntity;
 import com.example.Spot.order.domain.enums.OrderStatus;
-import com.example.Spot.order.domain.repository.OrderItemOptionRepository;
 import com.example.Spot.order.domain.repository.OrderItemRepository;
 import com.example.Spot.order.domain.repository.OrderRepository;
+import com.example.Spot.order.domain.repository.OrderRevenueStatsRepository;
+import com.example.Spot.order.domain.repository.OrderStatsRepository;
 
 
 import lombok.RequiredArgsConstructor;
@@ -37,7 +38,8 @@ public class InternalOrderAdminService {
             OrderStatus.COOKING,
             OrderStatus.READY
     );
-    private final OrderItemOptionRepository orderItemOptionRepository;
+    private final OrderStatsRepository orderStatsRepository;
+    private final OrderRevenueStatsRepository orderRevenueStatsRepository;
 
 
     public Page<OrderResponse> getAllOrders(Pageable pageable, String sortBy, String direction) {
@@ -78,23 +80,24 @@ public class InternalOrderAdminService {
 
 
     public OrderStatsResponse getOrderStats() {
-        long totalOrders = orderRepository.count();
-
-        BigDecimal totalRevenueDecimal = orderItemOptionRepository.sumTotalRevenue();
-        Long totalRevenue = totalRevenueDecimal != null
-                ? totalRevenueDecimal.longValue()
-                : 0L;
-
-        List<Object[]> statusResults = orderRepository.countGroupByStatus();
-
+        // 통계 projection 버킷 합산 (주문 수에 비례하지 않음)
         List<OrderStatsResponse.OrderStatusStat> orderStatusStats =
-                statusResults.stream()
+                orderStatsRepository.sumCountGroupByStatus().stream()
                         .map(r -> OrderStatsResponse.OrderStatusStat.builder()
                                 .status(((OrderStatus) r[0]).name())
-                                .count((Long) r[1])
+                                .count(((Number) r[1]).longValue())
                                 .build())
                         .toList();
 
+        long totalOrders = orderStatusStats.stream()
+                .mapToLong(OrderStatsResponse.OrderStatusStat::getCount)
+                .sum();
+
+        BigDecimal totalRevenueDecimal = orderRevenueStatsRepository.sumRevenue();
+        Long totalRevenue = totalRevenueDecimal != null
+                ? totalRevenueDecimal.longValue()
+                : 0L;
+
         return OrderStatsResponse.builder()
                 .totalOrders(totalOrders)
                 .totalRevenue(totalRevenue)
@@ -0,0 +1,163 @@
+package com.example.Spot.order.application.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.Spot.order.domain.enums.OrderStatus;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최종 상태(픽업 완료/취소/거절)로 보관 기간이 지난 주문을 p_order_archive, p_order_item_archive, p_order_item_option_archive로 옮긴다.
+ * 진행 중 주문 조회(findActiveOrdersByStoreId 등)가 읽는 p_order 계열 테이블을 최근 주문 규모로 유지하기 위한 작업이다.
+ * 배치마다 주문 + 아이템 + 옵션을 한 문장(DELETE ... RETURNING → INSERT)으로 옮기므로 어느 시점에도 두 곳에 중복되거나 빠지지 않고,
+ * 고객 이력 조회는 OrderQueryRepository가 두 테이블을 UNION ALL로 읽는다.
+ * 재결제가 가능한 PAYMENT_FAILED와 수동 확인이 필요한 REFUND_ERROR는 옮기지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderArchiveService {
+
+    private static final String ARCHIVE_SUFFIX = "_archive";
+    private static final String ORDER = "p_order";
+    private static final String ITEM = "p_order_item";
+    private static final String OPTION = "p_order_item_option";
+    private static final List<OrderStatus> ARCHIVABLE_STATUSES =
+            List.of(OrderStatus.COMPLETED, OrderStatus.CANCELLED, OrderStatus.REJECTED);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.archive.after-days:30}")
+    private int afterDays;
+
+    @Value("${order.archive.batch-size:500}")
+    private int batchSize;
+
+    // 한 번 실행에서 옮기는 최대 배치 수. 남은 주문은 다음 실행에서 이어서 처리
+    @Value("${order.archive.max-batches:200}")
+    private int maxBatches;
+
+    // 이력 조회가 보관 테이블을 UNION 하므로 이동 작업 사용 여부와 관계없이 기동 시 테이블을 준비한다
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            syncArchiveTables();
+        } catch (Exception e) {
+            log.error("[Order-archive] failed to prepare archive tables", e);
+        }
+    }
+
+    @Scheduled(cron = "${order.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Map<String, String> columns = syncArchiveTables();
+            String sql = moveSql(columns);
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+
+            long total = 0;
+            for (int batch = 0; batch < maxBatches; batch++) {
+                Integer moved = transactionTemplate.execute(status -> jdbcTemplate.update(sql,
+                        Timestamp.valueOf(cutoff), batchSize));
+                total += moved != null ? moved : 0;
+                if (moved == null || moved < batchSize) {
+                    break;
+                }
+            }
+            log.info("[Order-archive] archived {} orders created before {}", total, cutoff);
+        } catch (Exception e) {
+            log.error("[Order-archive] archiving failed", e);
+        }
+    }
+
+    // 보관 테이블이 없으면 원본과 같은 컬럼으로 만들고, ddl-auto로 원본에 추가된 컬럼은 보관 테이블에도 추가한다.
+    // 반환값은 원본 테이블별 "컬럼 목록" (이동 SQL의 INSERT/SELECT 컬럼)
+    private Map<String, String> syncArchiveTables() {
+        createArchiveTable(ORDER, "user_id, created_at, id");
+        createArchiveTable(ITEM, "order_id");
+        createArchiveTable(OPTION, "order_item_id");
+        return List.of(ORDER, ITEM, OPTION).stream()
+                .collect(Collectors.toMap(table -> table, this::syncColumns));
+    }
+
+    private void createArchiveTable(String table, String indexColumns) {
+        String archive = table + ARCHIVE_SUFFIX;
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + archive
+                + " (LIKE " + table + " INCLUDING DEFAULTS, PRIMARY KEY (id))");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + archive + "_lookup ON " + archive + " (" + indexColumns + ")");
+    }
+
+    private String syncColumns(String table) {
+        List<Map<String, Object>> columns = jdbcTemplate.queryForList(
+                "SELECT a.attname AS name, format_type(a.atttypid, a.atttypmod) AS type "
+                        + "FROM pg_attribute a WHERE a.attrelid = CAST(? AS regclass) "
+                        + "AND a.attnum > 0 AND NOT a.attisdropped ORDER BY a.attnum",
+                table);
+        for (Map<String, Object> column : columns) {
+            jdbcTemplate.execute("ALTER TABLE " + table + ARCHIVE_SUFFIX
+                    + " ADD COLUMN IF NOT EXISTS " + column.get("name") + " " + column.get("type"));
+        }
+        return columns.stream()
+                .map(column -> (String) column.get("name"))
+                .collect(Collectors.joining(", "));
+    }
+
+    // FK(NO ACTION)는 문장 끝에서 검사되므로 옵션 → 아이템 → 주문 순 삭제를 한 문장에 담을 수 있다.
+    // SKIP LOCKED로 상태 변경 중인 주문이나 다른 인스턴스가 옮기는 배치는 건너뛴다
+    private String moveSql(Map<String, String> columns) {
+        String statuses = ARCHIVABLE_STATUSES.stream()
+                .map(status -> "'" + status.name() + "'")
+                .collect(Collectors.joining(", "));
+        return """
+                WITH batch AS (
+                    SELECT id FROM p_order
+                    WHERE order_status IN (%s) AND created_at < ?
+                    ORDER BY created_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                ),
+                moved_options AS (
+                    DELETE FROM p_order_item_option oio USING p_order_item oi, batch b
+                    WHERE oio.order_item_id = oi.id AND oi.order_id = b.id
+                    RETURNING oio.*
+                ),
+                archived_options AS (
+                    INSERT INTO p_order_item_option_archive (%s) SELECT %s FROM moved_options
+                ),
+                moved_items AS (
+                    DELETE FROM p_order_item oi USING batch b WHERE oi.order_id = b.id
+                    RETURNING oi.*
+                ),
+                archived_items AS (
+                    INSERT INTO p_order_item_archive (%s) SELECT %s FROM moved_items
+                ),
+                moved_orders AS (
+                    DELETE FROM p_order o USING batch b WHERE o.id = b.id
+                    RETURNING o.*
+                )
+                INSERT INTO p_order_archive (%s) SELECT %s FROM moved_orders
+                """.formatted(statuses,
+                columns.get(OPTION), columns.get(OPTION),
+                columns.get(ITEM), columns.get(ITEM),
+                columns.get(ORDER), columns.get(ORDER));
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.Spot.order.application.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * p_order_outbox 일자별 range 파티션 관리.
+ * 아웃박스는 INSERT 후 Debezium이 WAL에서 읽기만 하므로, 보관 기간이 지난 행은 DELETE 대신 파티션 단위로 DETACH/DROP 한다.
+ * 파티션 이름은 p_order_outbox_yyyyMMdd 이고 [해당 일자, 다음 일자) 구간을 담는다.
+ * 일반 테이블로 만들어진 기존 p_order_outbox는 기동 시 한 번 파티션 테이블로 전환되며,
+ * 기존 테이블은 (MINVALUE, 전환일 다음 날) 구간의 파티션으로 붙어 보관 기간이 지나면 함께 삭제된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderOutboxPartitionService {
+
+    private static final String TABLE = "p_order_outbox";
+    private static final String PARTITION_PREFIX = TABLE + "_";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    // 여러 인스턴스가 동시에 DDL을 실행하지 않도록 잡는 advisory lock 키
+    private static final long MAINTENANCE_LOCK_KEY = 0x6F7574626F78L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.outbox.partition.retention-days:7}")
+    private int retentionDays;
+
+    // 유지보수 잡이 며칠 실패해도 INSERT가 실패하지 않도록 미리 만들어 두는 일수
+    @Value("${order.outbox.partition.premake-days:7}")
+    private int premakeDays;
+
+    @Value("${order.outbox.publication:order_outbox_pub}")
+    private String publication;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${order.outbox.partition.cron:0 0 3 * * *}")
+    public void maintain() {
+        try {
+            Boolean locked = transactionTemplate.execute(status -> {
+                if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, MAINTENANCE_LOCK_KEY))) {
+                    return false;
+                }
+                LocalDate today = LocalDate.now();
+                // 기존 일반 테이블(payload TEXT)을 파티션으로 붙이려면 부모(BYTEA)와 컬럼 타입이 같아야 하므로 먼저 변환
+                convertPayloadToBinary();
+                convertIfPlain(today);
+                createFuturePartitions(today);
+                ensurePublication();
+                return true;
+            });
+            if (!Boolean.TRUE.equals(locked)) {
+                log.info("[Order-outbox-partition] another instance is maintaining partitions, skipped");
+                return;
+            }
+            dropExpiredPartitions(LocalDate.now().minusDays(retentionDays));
+        } catch (Exception e) {
+            log.error("[Order-outbox-partition] maintenance failed", e);
+        }
+    }
+
+    // ddl-auto가 만든 일반 테이블을 파티션 부모로 교체. 기존 행은 옮기지 않고 테이블째 파티션으로 붙이므로 CDC 이벤트가 다시 발생하지 않는다
+    private void convertIfPlain(LocalDate today) {
+        String relkind = jdbcTemplate.query(
+                "SELECT c.relkind FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace "
+                        + "WHERE n.nspname = current_schema() AND c.relname = ?",
+                rs -> rs.next() ? rs.getString(1) : null, TABLE);
+        if (relkind == null || "p".equals(relkind)) {
+            return;
+        }
+
+        String legacy = partitionName(today);
+        jdbcTemplate.execute("LOCK TABLE " + TABLE + " IN ACCESS EXCLUSIVE MODE");
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " RENAME TO " + legacy);
+        jdbcTemplate.execute("ALTER TABLE " + legacy + " RENAME CONSTRAINT " + TABLE + "_pkey TO " + legacy + "_pkey");
+        jdbcTemplate.execute("""
+                CREATE TABLE p_order_outbox (
+                    id UUID NOT NULL,
+                    aggregate_type VARCHAR(255) NOT NULL,
+                    aggregate_id UUID NOT NULL,
+                    event_type VARCHAR(255) NOT NULL,
+                    payload BYTEA NOT NULL,
+                    created_at TIMESTAMP(6) NOT NULL,
+                    created_by INTEGER NOT NULL,
+                    PRIMARY KEY (id, created_at)
+                ) PARTITION BY RANGE (created_at)
+                """);
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ATTACH PARTITION " + legacy
+                + " FOR VALUES FROM (MINVALUE) TO ('" + today.plusDays(1) + "')");
+        log.info("[Order-outbox-partition] converted {} to a partitioned table (legacy rows kept in {})", TABLE, legacy);
+    }
+
+    // payload가 TEXT(JSON 문자열)였던 테이블을 EventPayloadCodec 바이트를 담는 BYTEA로 변경. 기존 JSON은 UTF-8 바이트로 보존된다
+    private void convertPayloadToBinary() {
+        String dataType = jdbcTemplate.query(
+                "SELECT data_type FROM information_schema.columns "
+                        + "WHERE table_schema = current_schema() AND table_name = ? AND column_name = 'payload'",
+                rs -> rs.next() ? rs.getString(1) : null, TABLE);
+        if (!"text".equals(dataType)) {
+            return;
+        }
+        jdbcTemplate.execute("ALTER TABLE " + TABLE + " ALTER COLUMN payload TYPE BYTEA USING convert_to(payload, 'UTF8')");
+        log.info("[Order-outbox-partition] converted {}.payload to BYTEA", TABLE);
+    }
+
+    private void createFuturePartitions(LocalDate today) {
+        for (int i = 0; i <= premakeDays; i++) {
+            LocalDate day = today.plusDays(i);
+            String name = partitionName(day);
+            if (partitionExists(name)) {
+                continue;
+            }
+            jdbcTemplate.execute("CREATE TABLE " + name + " PARTITION OF " + TABLE
+                    + " FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')");
+            log.info("[Order-outbox-partition] created {}", name);
+        }
+    }
+
+    // 파티션 테이블 INSERT가 부모 이름(public.p_order_outbox)으로 복제되어야 connector의 table.include.list와 맞는다.
+    // Debezium(filtered 모드)이 먼저 만든 발행이어도 SET TABLE로 전환 후의 부모를 다시 가리키게 한다
+    private void ensurePublication() {
+        Integer exists = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_publication WHERE pubname = ?", Integer.class, publication);
+        if (exists == null || exists == 0) {
+            jdbcTemplate.execute("CREATE PUBLICATION " + publication + " FOR TABLE " + TABLE
+                    + " WITH (publish_via_partition_root = true)");
+            return;
+        }
+        jdbcTemplate.execute("ALTER PUBLICATION " + publication + " SET TABLE " + TABLE);
+        jdbcTemplate.execute("ALTER PUBLICATION " + publication + " SET (publish_via_partition_root = true)");
+    }
+
+    // 파티션마다 별도 트랜잭션. DETACH가 부모 락을 오래 기다려 주문 INSERT를 막지 않도록 lock_timeout을 건다
+    private void dropExpiredPartitions(LocalDate threshold) {
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i "
+                        + "JOIN pg_class c ON c.oid = i.inhrelid "
+                        + "JOIN pg_class p ON p.oid = i.inhparent "
+                        + "WHERE p.relname = ? ORDER BY c.relname",
+                String.class, TABLE);
+
+        for (String name : partitions) {
+            LocalDate day = partitionDay(name);
+            if (day == null || !day.isBefore(threshold)) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.execute("SET LOCAL lock_timeout = '3s'");
+                    jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + name);
+                    jdbcTemplate.execute("DROP TABLE " + name);
+                });
+                log.info("[Order-outbox-partition] dropped {} (threshold={})", name, threshold);
+            } catch (Exception e) {
+                log.warn("[Order-outbox-partition] failed to drop {}, will retry next run", name, e);
+            }
+        }
+    }
+
+    private boolean partitionExists(String name) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL", Boolean.class, name));
+    }
+
+    private String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(SUFFIX_FORMAT);
+    }
+
+    private LocalDate partitionDay(String name) {
+        if (!name.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(name.substring(PARTITION_PREFIX.length()), SUFFIX_FORMAT);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
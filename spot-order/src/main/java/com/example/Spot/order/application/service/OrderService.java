@@ -6,15 +6,20 @@ import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.example.Spot.order.domain.enums.OrderStatus;
+import com.example.Spot.order.presentation.dto.request.OrderBulkStatusRequestDto;
 import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
+import com.example.Spot.order.presentation.dto.response.OrderBulkStatusResponseDto;
+import com.example.Spot.order.presentation.dto.response.OrderCursorPageResponseDto;
 import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
 import com.example.Spot.order.presentation.dto.response.OrderStatsResponseDto;
 
 public interface OrderService {
 
-    OrderResponseDto createOrder(OrderCreateRequestDto requestDto, Integer userId);
+    // idempotencyKey가 있으면 같은 key의 재요청에 처음 응답을 돌려줌 (null이면 매번 새 주문)
+    OrderResponseDto createOrder(OrderCreateRequestDto requestDto, Integer userId, String idempotencyKey);
 
     OrderResponseDto getOrderById(UUID orderId);
     OrderResponseDto getOrderByOrderNumber(String orderNumber);
@@ -27,6 +32,14 @@ public interface OrderService {
     // Owner 전용
     List<OrderResponseDto> getMyStoreActiveOrders(Integer userId);
 
+    // 일괄 상태 변경 (Owner: 수락/완료, Chef: 조리 시작/픽업 준비)
+    OrderBulkStatusResponseDto bulkChangeMyStoreOrderStatus(Integer userId, OrderBulkStatusRequestDto requestDto);
+
+    OrderBulkStatusResponseDto bulkChangeChefOrderStatus(Integer userId, OrderBulkStatusRequestDto requestDto);
+
+    // Owner/Chef 매장 주문 보드 (SSE)
+    SseEmitter subscribeStoreBoard(Integer userId, Long lastEventId);
+
     // 고객 주문 조회
     Page<OrderResponseDto> getUserOrders(
             Integer userId,
@@ -50,6 +63,30 @@ public interface OrderService {
             OrderStatus status,
             Pageable pageable);
 
+    // 커서 기반(keyset) 목록 조회: 페이지 깊이와 무관하게 동일한 비용
+    OrderCursorPageResponseDto getUserOrdersByCursor(
+            Integer userId,
+            UUID storeId,
+            LocalDateTime date,
+            OrderStatus status,
+            String cursor,
+            int size);
+
+    OrderCursorPageResponseDto getMyStoreOrdersByCursor(
+            Integer userId,
+            Integer customerId,
+            LocalDateTime date,
+            OrderStatus status,
+            String cursor,
+            int size);
+
+    OrderCursorPageResponseDto getAllOrdersByCursor(
+            UUID storeId,
+            LocalDateTime date,
+            OrderStatus status,
+            String cursor,
+            int size);
+
     // 주문 상태 변경 (Owner/Chef)
     OrderResponseDto acceptOrder(UUID orderId, Integer estimatedTime);
     OrderResponseDto rejectOrder(UUID orderId, String reason);
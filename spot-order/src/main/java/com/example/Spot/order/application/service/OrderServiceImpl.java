@@ -1,49 +1,69 @@
 package com.example.Spot.order.application.service;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import com.example.Spot.global.feign.MenuClient;
 import com.example.Spot.global.feign.PaymentClient;
-import com.example.Spot.global.feign.StoreClient;
-import com.example.Spot.global.feign.dto.MenuOptionResponse;
-import com.example.Spot.global.feign.dto.MenuResponse;
-import com.example.Spot.global.feign.dto.StoreResponse;
+import com.example.Spot.global.infrastructure.concurrent.FanOutExecutor;
 import com.example.Spot.order.domain.entity.OrderEntity;
 import com.example.Spot.order.domain.entity.OrderItemEntity;
 import com.example.Spot.order.domain.entity.OrderItemOptionEntity;
 import com.example.Spot.order.domain.enums.CancelledBy;
 import com.example.Spot.order.domain.enums.OrderStatus;
 import com.example.Spot.order.domain.exception.DuplicateOrderException;
+import com.example.Spot.order.domain.exception.IdempotencyKeyInProgressException;
 import com.example.Spot.order.domain.exception.InvalidOrderStatusTransitionException;
+import com.example.Spot.order.domain.exception.PickupSlotFullException;
 import com.example.Spot.order.domain.repository.OrderItemOptionRepository;
+import com.example.Spot.order.domain.repository.OrderQueryRepository;
 import com.example.Spot.order.domain.repository.OrderRepository;
+import com.example.Spot.order.domain.repository.OrderRevenueStatsRepository;
+import com.example.Spot.order.domain.repository.OrderSearchCondition;
+import com.example.Spot.order.domain.repository.OrderStatsRepository;
+import com.example.Spot.order.infrastructure.aop.IdempotentOrderCreation;
 import com.example.Spot.order.infrastructure.aop.OrderValidationContext;
 import com.example.Spot.order.infrastructure.aop.StoreOwnershipRequired;
 import com.example.Spot.order.infrastructure.aop.ValidateStoreAndMenu;
+import com.example.Spot.order.infrastructure.board.OrderBoardHub;
+import com.example.Spot.order.infrastructure.guard.OrderFingerprintGuard;
+import com.example.Spot.order.infrastructure.guard.OrderIdempotencyGuard;
+import com.example.Spot.order.infrastructure.guard.PickupSlotGuard;
+import com.example.Spot.order.infrastructure.metrics.OrderStage;
+import com.example.Spot.order.infrastructure.metrics.OrderStageTimer;
 import com.example.Spot.order.infrastructure.producer.OrderEventProducer;
 import com.example.Spot.order.infrastructure.temporal.config.OrderConstants;
 import com.example.Spot.order.infrastructure.temporal.dto.OrderStatusUpdate;
 import com.example.Spot.order.infrastructure.temporal.workflow.OrderWorkflow;
+import com.example.Spot.order.presentation.dto.request.OrderBulkStatusRequestDto;
 import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
-import com.example.Spot.order.presentation.dto.request.OrderItemOptionRequestDto;
-import com.example.Spot.order.presentation.dto.request.OrderItemRequestDto;
+import com.example.Spot.order.presentation.dto.request.OrderCursor;
+import com.example.Spot.order.presentation.dto.response.OrderBulkStatusResponseDto;
+import com.example.Spot.order.presentation.dto.response.OrderBulkStatusResponseDto.OrderBulkStatusResult;
 import com.example.Spot.order.presentation.dto.response.OrderContextDto;
+import com.example.Spot.order.presentation.dto.response.OrderCursorPageResponseDto;
 import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
 import com.example.Spot.order.presentation.dto.response.OrderStatsResponseDto;
 
+import io.temporal.api.enums.v1.WorkflowIdReusePolicy;
 import io.temporal.client.WorkflowClient;
+import io.temporal.client.WorkflowExecutionAlreadyStarted;
 import io.temporal.client.WorkflowNotFoundException;
 import io.temporal.client.WorkflowOptions;
 import jakarta.persistence.EntityNotFoundException;
@@ -56,13 +76,34 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class OrderServiceImpl implements OrderService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final Set<OrderStatus> OWNER_BULK_TARGETS = EnumSet.of(OrderStatus.ACCEPTED, OrderStatus.COMPLETED);
+    private static final Set<OrderStatus> CHEF_BULK_TARGETS = EnumSet.of(OrderStatus.COOKING, OrderStatus.READY);
+
     private final OrderRepository orderRepository;
     private final OrderItemOptionRepository orderItemOptionRepository;
+    private final OrderQueryRepository orderQueryRepository;
+    private final OrderStatsRepository orderStatsRepository;
+    private final OrderRevenueStatsRepository orderRevenueStatsRepository;
     private final PaymentClient paymentClient;
-    private final StoreClient storeClient;
     private final OrderEventProducer orderEventProducer;
     private final WorkflowClient workflowClient;
-    private final MenuClient menuClient;
+    private final OrderFingerprintGuard orderFingerprintGuard;
+    private final PickupSlotGuard pickupSlotGuard;
+    private final OrderBoardHub orderBoardHub;
+    private final FanOutExecutor fanOutExecutor;
+    private final OrderStageTimer orderStageTimer;
+
+    // 일괄 상태 변경 시 동시에 보내는 Temporal 시그널 수 / 전체 제한 시간
+    @Value("${order.bulk.parallelism:8}")
+    private int bulkParallelism;
+
+    @Value("${order.bulk.deadline:5s}")
+    private Duration bulkDeadline;
+
+    // 이 일수보다 오래된 최종 상태 주문은 보관 테이블로 옮겨짐 (OrderArchiveService). 고객 이력 조회는 이 범위에 걸치면 보관 테이블까지 읽는다
+    @Value("${order.archive.after-days:30}")
+    private int archiveAfterDays;
 
     // ******* //
     // 주문 조회 //
@@ -123,6 +164,14 @@ public class OrderServiceImpl implements OrderService {
                 .collect(Collectors.toList());
     }
 
+    // 소유권 검증은 연결 시 1회만 수행되고 이후 상태 변경은 push로 전달됨
+    @Override
+    @StoreOwnershipRequired
+    public SseEmitter subscribeStoreBoard(Integer userId, Long lastEventId) {
+        UUID storeId = OrderValidationContext.getCurrentStoreId();
+        return orderBoardHub.subscribe(storeId, lastEventId);
+    }
+
     @Override
     public Page<OrderResponseDto> getUserOrders(
             Integer userId,
@@ -133,16 +182,14 @@ public class OrderServiceImpl implements OrderService {
 
         LocalDateTime[] range = date != null ? getDateRange(date) : new LocalDateTime[]{null, null};
 
-        Page<OrderEntity> orderPage = orderRepository.findUserOrdersWithFilters(
-                userId,
-                storeId,
-                status,
-                range[0],
-                range[1],
-                pageable);
-
-        fetchOrderItemOptions(orderPage.getContent());
-        return orderPage.map(OrderResponseDto::from);
+        return orderQueryRepository.findPage(OrderSearchCondition.builder()
+                .userId(userId)
+                .storeId(storeId)
+                .status(status)
+                .startDate(range[0])
+                .endDate(range[1])
+                .includeArchive(reachesArchive(range[0]))
+                .build(), pageable);
     }
 
     @Override
@@ -157,16 +204,13 @@ public class OrderServiceImpl implements OrderService {
         UUID storeId = OrderValidationContext.getCurrentStoreId();
         LocalDateTime[] range = date != null ? getDateRange(date) : new LocalDateTime[]{null, null};
 
-        Page<OrderEntity> orderPage = orderRepository.findStoreOrdersWithFilters(
-                storeId,
-                customerId,
-                status,
-                range[0],
-                range[1],
-                pageable);
-
-        fetchOrderItemOptions(orderPage.getContent());
-        return orderPage.map(OrderResponseDto::from);
+        return orderQueryRepository.findPage(OrderSearchCondition.builder()
+                .userId(customerId)
+                .storeId(storeId)
+                .status(status)
+                .startDate(range[0])
+                .endDate(range[1])
+                .build(), pageable);
     }
 
     @Override
@@ -178,26 +222,95 @@ public class OrderServiceImpl implements OrderService {
 
         LocalDateTime[] range = date != null ? getDateRange(date) : new LocalDateTime[]{null, null};
 
-        Page<OrderEntity> orderPage = orderRepository.findAllOrdersWithFilters(
-                storeId,
-                status,
-                range[0],
-                range[1],
-                pageable);
+        return orderQueryRepository.findPage(OrderSearchCondition.builder()
+                .storeId(storeId)
+                .status(status)
+                .startDate(range[0])
+                .endDate(range[1])
+                .build(), pageable);
+    }
+
+    @Override
+    public OrderCursorPageResponseDto getUserOrdersByCursor(
+            Integer userId,
+            UUID storeId,
+            LocalDateTime date,
+            OrderStatus status,
+            String cursor,
+            int size) {
+
+        LocalDateTime[] range = date != null ? getDateRange(date) : new LocalDateTime[]{null, null};
 
-        fetchOrderItemOptions(orderPage.getContent());
-        return orderPage.map(OrderResponseDto::from);
+        return findCursorPage(OrderSearchCondition.builder()
+                .userId(userId)
+                .storeId(storeId)
+                .status(status)
+                .startDate(range[0])
+                .endDate(range[1])
+                .includeArchive(reachesArchive(range[0]))
+                .build(), cursor, size);
     }
 
-    private void fetchOrderItemOptions(List<OrderEntity> orders) {
-        List<UUID> orderItemIds = orders.stream()
-                .flatMap(order -> order.getOrderItems().stream())
-                .map(OrderItemEntity::getId)
-                .toList();
+    @Override
+    @StoreOwnershipRequired
+    public OrderCursorPageResponseDto getMyStoreOrdersByCursor(
+            Integer userId,
+            Integer customerId,
+            LocalDateTime date,
+            OrderStatus status,
+            String cursor,
+            int size) {
 
-        if (!orderItemIds.isEmpty()) {
-            orderItemOptionRepository.findByOrderItemIdIn(orderItemIds);
-        }
+        UUID storeId = OrderValidationContext.getCurrentStoreId();
+        LocalDateTime[] range = date != null ? getDateRange(date) : new LocalDateTime[]{null, null};
+
+        return findCursorPage(OrderSearchCondition.builder()
+                .userId(customerId)
+                .storeId(storeId)
+                .status(status)
+                .startDate(range[0])
+                .endDate(range[1])
+                .build(), cursor, size);
+    }
+
+    @Override
+    public OrderCursorPageResponseDto getAllOrdersByCursor(
+            UUID storeId,
+            LocalDateTime date,
+            OrderStatus status,
+            String cursor,
+            int size) {
+
+        LocalDateTime[] range = date != null ? getDateRange(date) : new LocalDateTime[]{null, null};
+
+        return findCursorPage(OrderSearchCondition.builder()
+                .storeId(storeId)
+                .status(status)
+                .startDate(range[0])
+                .endDate(range[1])
+                .build(), cursor, size);
+    }
+
+    private OrderCursorPageResponseDto findCursorPage(OrderSearchCondition condition, String cursor, int size) {
+        OrderCursor after = OrderCursor.decode(cursor);
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        List<OrderResponseDto> orders = orderQueryRepository.findAfter(
+                condition,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                pageSize + 1); // 다음 페이지 존재 여부 확인용 +1
+
+        boolean hasNext = orders.size() > pageSize;
+        List<OrderResponseDto> content = hasNext ? orders.subList(0, pageSize) : orders;
+        OrderResponseDto last = content.isEmpty() ? null : content.get(content.size() - 1);
+
+        return OrderCursorPageResponseDto.builder()
+                .content(content)
+                .size(content.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new OrderCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .build();
     }
 
 
@@ -206,26 +319,93 @@ public class OrderServiceImpl implements OrderService {
     // ******* //
     @Override
     @Transactional
+    @IdempotentOrderCreation
     @ValidateStoreAndMenu
-    public OrderResponseDto createOrder(OrderCreateRequestDto requestDto, Integer userId) {
+    public OrderResponseDto createOrder(OrderCreateRequestDto requestDto, Integer userId, String idempotencyKey) {
         
-        OrderContextDto contextDto = fetchOrderContext(requestDto);
-        checkDuplicateOrder(userId, contextDto.getStore().getId(), requestDto);
-        UUID orderId = UUID.randomUUID();
+        // @ValidateStoreAndMenu에서 조회/검증한 결과를 그대로 사용 (Feign 재조회 없음)
+        OrderContextDto contextDto = OrderValidationContext.getOrderContext();
+        if (contextDto == null) {
+            throw new IllegalStateException("주문 검증 컨텍스트가 존재하지 않습니다.");
+        }
+        // Idempotency-Key가 있으면 주문 ID(= 워크플로우 ID)를 key에서 만들어 재시도가 같은 워크플로우를 가리키게 함
+        UUID orderId = idempotencyKey != null
+                ? OrderIdempotencyGuard.orderIdFor(userId, idempotencyKey)
+                : UUID.randomUUID();
+        if (idempotencyKey != null) {
+            // 저장된 응답 없이 도착한 재시도: 이미 만들어진 주문이면 선점 없이 그 주문으로 응답
+            Optional<OrderResponseDto> existing = findIdempotentReplay(orderId, userId, requestDto);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+        }
+        // 동일 장바구니 fingerprint를 Redis에 선점 (DB 조회 없이 한 번의 SET NX로 중복 판정)
+        boolean claimed = orderStageTimer.record(OrderStage.DUPLICATE_CHECK,
+                () -> orderFingerprintGuard.claim(orderId, userId, contextDto.getStore().getId(), requestDto));
+        if (!claimed) {
+            log.warn("중복 주문 감지: userId={}, storeId={}, pickupTime={}",
+                    userId, contextDto.getStore().getId(), requestDto.getPickupTime());
+            throw new DuplicateOrderException();
+        }
+        // 가게의 픽업 시간대 수용량 예약 (Redis 카운터, p_order 조회/잠금 없음)
+        UUID storeId = contextDto.getStore().getId();
+        boolean reserved;
+        try {
+            reserved = orderStageTimer.record(OrderStage.PICKUP_SLOT,
+                    () -> pickupSlotGuard.reserve(orderId, storeId, requestDto.getPickupTime()));
+        } catch (RuntimeException e) {
+            // Redis 장애 등으로 예약 자체가 실패해도 선점한 fingerprint는 되돌려 사용자가 중복으로 막히지 않게 함
+            orderFingerprintGuard.release(orderId);
+            throw e;
+        }
+        if (!reserved) {
+            orderFingerprintGuard.release(orderId);
+            throw new PickupSlotFullException(requestDto.getPickupTime(),
+                    pickupSlotGuard.nextAvailableSlot(storeId, requestDto.getPickupTime()));
+        }
         BigDecimal totalAmount = contextDto.calculateTotalAmount(requestDto);
         
-        OrderWorkflow workflow = workflowClient.newWorkflowStub(OrderWorkflow.class,
-                WorkflowOptions.newBuilder()
-                        .setWorkflowId(orderId.toString())
-                        .setTaskQueue(OrderConstants.ORDER_TASK_QUEUE)
-                        .build());
+        WorkflowOptions.Builder workflowOptions = WorkflowOptions.newBuilder()
+                .setWorkflowId(orderId.toString())
+                .setTaskQueue(OrderConstants.ORDER_TASK_QUEUE);
+        if (idempotencyKey != null) {
+            // 기본 정책은 종료된 워크플로우의 ID 재사용을 허용하므로, key에서 만든 주문 ID는 명시적으로 재사용 금지
+            workflowOptions.setWorkflowIdReusePolicy(WorkflowIdReusePolicy.WORKFLOW_ID_REUSE_POLICY_REJECT_DUPLICATE);
+        }
+        OrderWorkflow workflow = workflowClient.newWorkflowStub(OrderWorkflow.class, workflowOptions.build());
 
-        
-        WorkflowClient.start(workflow::processOrder, orderId, userId, requestDto, contextDto);
+        try {
+            orderStageTimer.record(OrderStage.WORKFLOW_START,
+                    () -> WorkflowClient.start(workflow::processOrder, orderId, userId, requestDto, contextDto));
+        } catch (WorkflowExecutionAlreadyStarted e) {
+            // 같은 Idempotency-Key의 워크플로우가 이미 있음. 선점한 fingerprint/시간대는 같은 주문 ID의 것이므로 유지하고,
+            // 응답은 이번 요청이 아니라 기존 주문 기준으로 만든다 (아직 DB에 없으면 처리 중)
+            log.info("이미 시작된 주문 워크플로우입니다. (Idempotency-Key 재시도) OrderID: {}", orderId);
+            return findIdempotentReplay(orderId, userId, requestDto)
+                    .orElseThrow(IdempotencyKeyInProgressException::new);
+        } catch (RuntimeException e) {
+            orderFingerprintGuard.release(orderId);
+            pickupSlotGuard.release(orderId);
+            throw e;
+        }
         
         return OrderResponseDto.of(orderId, userId, requestDto, contextDto, totalAmount);
     }
 
+    // Idempotency-Key로 이미 만들어진 주문. 같은 key로 다른 장바구니/픽업 시간을 보냈으면 거부
+    private Optional<OrderResponseDto> findIdempotentReplay(UUID orderId, Integer userId, OrderCreateRequestDto requestDto) {
+        Optional<OrderResponseDto> existing = orderRepository.findByIdWithOrderItems(orderId)
+                .map(OrderResponseDto::from);
+        existing.ifPresent(order -> {
+            if (!OrderFingerprintGuard.fingerprint(order)
+                    .equals(OrderFingerprintGuard.fingerprint(userId, requestDto.getStoreId(), requestDto))) {
+                throw new IllegalArgumentException("같은 Idempotency-Key로 다른 주문을 요청할 수 없습니다.");
+            }
+            log.info("[Idempotency] 기존 주문으로 응답 - userId: {}, orderId: {}", userId, orderId);
+        });
+        return existing;
+    }
+
     // *********** //
     // 주문 상태 변경 //
     // *********** //
@@ -269,6 +449,71 @@ public class OrderServiceImpl implements OrderService {
         return OrderResponseDto.fromId(orderId, OrderStatus.COMPLETED);
     }
     
+    // 시그널 대기 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행
+    @Override
+    @StoreOwnershipRequired
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderBulkStatusResponseDto bulkChangeMyStoreOrderStatus(Integer userId, OrderBulkStatusRequestDto requestDto) {
+        return bulkChangeStatus(requestDto, OWNER_BULK_TARGETS);
+    }
+
+    @Override
+    @StoreOwnershipRequired
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public OrderBulkStatusResponseDto bulkChangeChefOrderStatus(Integer userId, OrderBulkStatusRequestDto requestDto) {
+        return bulkChangeStatus(requestDto, CHEF_BULK_TARGETS);
+    }
+
+    private OrderBulkStatusResponseDto bulkChangeStatus(OrderBulkStatusRequestDto requestDto, Set<OrderStatus> allowedTargets) {
+        OrderStatus target = requestDto.getTargetStatus();
+        if (!allowedTargets.contains(target)) {
+            throw new IllegalArgumentException("일괄 변경할 수 없는 상태입니다: " + target.getDescription());
+        }
+        if (target == OrderStatus.ACCEPTED && requestDto.getEstimatedTime() == null) {
+            throw new IllegalArgumentException("주문 수락 시 예상 조리 시간은 필수입니다.");
+        }
+
+        UUID storeId = OrderValidationContext.getCurrentStoreId();
+        List<UUID> orderIds = requestDto.getOrderIds().stream().distinct().toList();
+
+        // 매장 소속 여부와 현재 상태를 한 번에 조회해 전환 불가능한 주문은 시그널 없이 바로 실패 처리
+        Map<UUID, OrderStatus> currentStatuses = orderRepository.findStatusesByStoreIdAndIdIn(storeId, orderIds).stream()
+                .collect(Collectors.toMap(r -> (UUID) r[0], r -> (OrderStatus) r[1]));
+
+        OrderStatusUpdate update = new OrderStatusUpdate(
+                target,
+                target == OrderStatus.ACCEPTED ? requestDto.getEstimatedTime() : null,
+                null,
+                null);
+
+        List<OrderBulkStatusResult> results = fanOutExecutor.mapBounded(
+                "bulk-status", orderIds, bulkParallelism, bulkDeadline,
+                orderId -> {
+                    OrderStatus current = currentStatuses.get(orderId);
+                    if (current == null) {
+                        return OrderBulkStatusResult.failure(orderId, null, "매장의 주문이 아닙니다.");
+                    }
+                    if (!current.canTransitionTo(target)) {
+                        return OrderBulkStatusResult.failure(orderId, current,
+                                new InvalidOrderStatusTransitionException(current, target).getMessage());
+                    }
+                    workflowClient.newWorkflowStub(OrderWorkflow.class, orderId.toString()).signalStatusChanged(update);
+                    return OrderBulkStatusResult.success(orderId);
+                },
+                (orderId, e) -> {
+                    log.warn("일괄 상태 변경 시그널 실패: orderId={}, status={}, error={}", orderId, target, e.toString());
+                    String message = e instanceof TimeoutException
+                            ? "처리 시간이 초과되었습니다. 주문 상태를 다시 확인해주세요."
+                            : e instanceof WorkflowNotFoundException ? "이미 종료된 주문입니다." : "상태 변경 요청에 실패했습니다.";
+                    return OrderBulkStatusResult.failure(orderId, currentStatuses.get(orderId), message);
+                });
+
+        OrderBulkStatusResponseDto response = OrderBulkStatusResponseDto.of(target, results);
+        log.info("일괄 상태 변경 시그널 전송: storeId={}, status={}, requested={}, succeeded={}",
+                storeId, target, response.getRequested(), response.getSucceeded());
+        return response;
+    }
+
     // ******* //
     // 주문 취소 //
     // ******* //
@@ -314,31 +559,11 @@ public class OrderServiceImpl implements OrderService {
         return OrderResponseDto.fromId(orderId, OrderStatus.PAYMENT_FAILED);
     }
 
-    private void checkDuplicateOrder(Integer userId, UUID storeId, OrderCreateRequestDto requestDto) {
-        List<OrderEntity> existingOrders = orderRepository
-                .findActiveOrdersByUserAndStoreAndPickupTime(userId, storeId, requestDto.getPickupTime());
-
-        if (existingOrders.isEmpty()) {
-            return;
-        }
-
-        Set<String> newOrderItemKeys = requestDto.getOrderItems().stream()
-                .map(item -> item.getMenuId() + ":" + item.getQuantity())
-                .collect(Collectors.toSet());
-
-        for (OrderEntity existingOrder : existingOrders) {
-            Set<String> existingItemKeys = existingOrder.getOrderItems().stream()
-                    .map(item -> item.getMenuId() + ":" + item.getQuantity())
-                    .collect(Collectors.toSet());
-
-            if (newOrderItemKeys.equals(existingItemKeys)) {
-                log.warn("중복 주문 감지: userId={}, storeId={}, pickupTime={}, 기존 주문번호={}",
-                        userId, storeId, requestDto.getPickupTime(), existingOrder.getOrderNumber());
-                throw new DuplicateOrderException();
-            }
-        }
+    // 조회 시작일이 없거나 보관 기준일 이전이면 보관된 주문이 포함될 수 있음
+    private boolean reachesArchive(LocalDateTime startDate) {
+        return startDate == null || startDate.isBefore(LocalDateTime.now().minusDays(archiveAfterDays));
     }
-    
+
     private LocalDateTime[] getDateRange(LocalDateTime date) {
         LocalDateTime startOfDay = date.toLocalDate().atStartOfDay();
         LocalDateTime endOfDay = date.toLocalDate().atTime(23, 59, 59);
@@ -347,31 +572,21 @@ public class OrderServiceImpl implements OrderService {
 
     @Override
     public OrderStatsResponseDto getOrderStats() {
-        List<OrderEntity> allOrders = orderRepository.findAll();
-
-        long totalOrders = allOrders.size();
-
-        BigDecimal totalRevenue = allOrders.stream()
-                .flatMap(order -> order.getOrderItems().stream())
-                .map(item -> item.getMenuPrice().multiply(BigDecimal.valueOf(item.getQuantity())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        Map<String, Long> statusCounts = allOrders.stream()
-                .collect(Collectors.groupingBy(
-                        order -> order.getOrderStatus().name(),
-                        Collectors.counting()
-                ));
-
-        List<OrderStatsResponseDto.OrderStatusStats> orderStatusStats = statusCounts.entrySet().stream()
-                .map(entry -> OrderStatsResponseDto.OrderStatusStats.builder()
-                        .status(entry.getKey())
-                        .count(entry.getValue())
+        // 전체 주문을 읽지 않고 통계 projection 버킷만 합산
+        List<OrderStatsResponseDto.OrderStatusStats> orderStatusStats = orderStatsRepository.sumCountGroupByStatus().stream()
+                .map(r -> OrderStatsResponseDto.OrderStatusStats.builder()
+                        .status(((OrderStatus) r[0]).name())
+                        .count(((Number) r[1]).longValue())
                         .build())
                 .collect(Collectors.toList());
 
+        long totalOrders = orderStatusStats.stream()
+                .mapToLong(OrderStatsResponseDto.OrderStatusStats::getCount)
+                .sum();
+
         return OrderStatsResponseDto.builder()
                 .totalOrders(totalOrders)
-                .totalRevenue(totalRevenue)
+                .totalRevenue(orderRevenueStatsRepository.sumRevenue())
                 .orderStatusStats(orderStatusStats)
                 .build();
     }
@@ -381,35 +596,4 @@ public class OrderServiceImpl implements OrderService {
         workflow.signalStatusChanged(new OrderStatusUpdate(status, null, null, null));
         log.info("시그널 전송 완료: orderId={}, status={}", orderId, status);
     }
-    
-    private OrderContextDto fetchOrderContext(OrderCreateRequestDto requestDto) {
-        StoreResponse store = storeClient.getStoreById(requestDto.getStoreId());
-        if (store == null) {
-            throw new IllegalArgumentException("존재하지 않는 가게입니다.");
-        }
-        
-        Map<UUID, MenuResponse> menuMap = new HashMap<>();
-        Map<UUID, MenuOptionResponse> optionMap = new HashMap<>();
-        
-        for (OrderItemRequestDto itemDto : requestDto.getOrderItems()) {
-            MenuResponse menu = menuClient.getMenuById(itemDto.getMenuId());
-            if (menu == null || menu.isHidden() || menu.isDeleted()) {
-                throw new IllegalArgumentException("판매 불가 메뉴입니다: " + itemDto.getMenuId());
-            }
-            menuMap.put(itemDto.getMenuId(), menu);
-
-            for (OrderItemOptionRequestDto optionDto : itemDto.getOptions()) {
-                MenuOptionResponse option = menuClient.getMenuOptionById(optionDto.getMenuOptionId());
-                if (option == null || option.isDeleted()) {
-                    throw new IllegalArgumentException("판매 불가 옵션입니다.");
-                }
-                optionMap.put(optionDto.getMenuOptionId(), option);
-            }
-        }
-            return OrderContextDto.builder()
-                    .store(store)
-                    .menuMap(menuMap)
-                    .optionMap(optionMap)
-                    .build();
-    }
 }
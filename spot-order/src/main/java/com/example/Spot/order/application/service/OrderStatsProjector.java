@@ -0,0 +1,124 @@
+package com.example.Spot.order.application.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.Spot.order.domain.entity.OrderEntity;
+import com.example.Spot.order.domain.enums.OrderStatus;
+import com.example.Spot.order.domain.repository.OrderRevenueStatsRepository;
+import com.example.Spot.order.domain.repository.OrderStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 통계 projection 갱신기.
+ * 주문 생성/상태 전환을 수행하는 트랜잭션 안에서 호출되어, 통계 조회 시 전체 주문을 읽지 않고 버킷만 합산하도록 한다.
+ * 버킷 기준 일자는 주문 생성일이다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatsProjector {
+
+    // 여러 인스턴스가 동시에 백필하지 않도록 잡는 advisory lock 키 / 백필 완료 표시 이름
+    private static final long BACKFILL_LOCK_KEY = 0x73746174734266L;
+    private static final String BACKFILL_MARKER = "order-stats-backfill";
+
+    private final OrderStatsRepository orderStatsRepository;
+    private final OrderRevenueStatsRepository orderRevenueStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public void recordCreated(OrderEntity order, BigDecimal revenue) {
+        LocalDate statDate = statDate(order);
+        orderStatsRepository.addCount(statDate, order.getStoreId(), order.getOrderStatus().name(), 1);
+        orderRevenueStatsRepository.addRevenue(statDate, order.getStoreId(), revenue);
+    }
+
+    public void recordTransition(OrderEntity order, OrderStatus previous) {
+        OrderStatus current = order.getOrderStatus();
+        if (previous == current) {
+            return;
+        }
+        LocalDate statDate = statDate(order);
+        orderStatsRepository.addCount(statDate, order.getStoreId(), previous.name(), -1);
+        orderStatsRepository.addCount(statDate, order.getStoreId(), current.name(), 1);
+    }
+
+    /**
+     * projection 도입 이전 주문 반영. 환경마다 한 번만 수행되며 여러 인스턴스가 동시에 기동해도 한 곳에서만 실행된다.
+     * 실행 여부는 p_order_projection_marker 행(INSERT ... ON CONFLICT)으로 기록하고, 백필과 같은 트랜잭션이라 실패하면 다음 기동 때 다시 시도한다.
+     * 통계 테이블을 EXCLUSIVE 잠금한 뒤 비우고 주문(보관 테이블 포함)에서 다시 만들기 때문에,
+     * 그 사이 주문 생성/상태 전환이 갱신한 버킷은 잠금이 풀릴 때까지 대기하거나 이미 커밋되어 원본 집계에 포함되어 중복 집계되지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnce() {
+        try {
+            Boolean rebuilt = transactionTemplate.execute(status -> {
+                if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                        "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, BACKFILL_LOCK_KEY))) {
+                    return false;
+                }
+                jdbcTemplate.execute("""
+                        CREATE TABLE IF NOT EXISTS p_order_projection_marker (
+                            name VARCHAR(100) PRIMARY KEY,
+                            applied_at TIMESTAMP(6) NOT NULL
+                        )
+                        """);
+                int marked = jdbcTemplate.update("""
+                        INSERT INTO p_order_projection_marker (name, applied_at) VALUES (?, now())
+                        ON CONFLICT (name) DO NOTHING
+                        """, BACKFILL_MARKER);
+                if (marked == 0) {
+                    return false;
+                }
+
+                jdbcTemplate.execute("LOCK TABLE p_order_stats, p_order_revenue_stats IN EXCLUSIVE MODE");
+                jdbcTemplate.update("DELETE FROM p_order_stats");
+                jdbcTemplate.update("DELETE FROM p_order_revenue_stats");
+                boolean archived = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                        "SELECT to_regclass('p_order_archive') IS NOT NULL AND to_regclass('p_order_item_archive') IS NOT NULL",
+                        Boolean.class));
+                int statusBuckets = jdbcTemplate.update("""
+                        INSERT INTO p_order_stats (stat_date, store_id, order_status, order_count)
+                        SELECT CAST(o.created_at AS DATE), o.store_id, o.order_status, COUNT(*)
+                        FROM (%s) o
+                        GROUP BY CAST(o.created_at AS DATE), o.store_id, o.order_status
+                        """.formatted(source("p_order", "id, created_at, store_id, order_status", archived)));
+                // 기존 통계와 같은 기준(메뉴 가격 × 수량, 옵션 제외)
+                int revenueBuckets = jdbcTemplate.update("""
+                        INSERT INTO p_order_revenue_stats (stat_date, store_id, revenue)
+                        SELECT CAST(o.created_at AS DATE), o.store_id, COALESCE(SUM(oi.menu_price * oi.quantity), 0)
+                        FROM (%s) o
+                        JOIN (%s) oi ON oi.order_id = o.id
+                        GROUP BY CAST(o.created_at AS DATE), o.store_id
+                        """.formatted(source("p_order", "id, created_at, store_id", archived),
+                        source("p_order_item", "order_id, menu_price, quantity", archived)));
+                log.info("[주문 통계] projection 백필 완료 - 상태 버킷: {}, 매출 버킷: {}", statusBuckets, revenueBuckets);
+                return true;
+            });
+            if (!Boolean.TRUE.equals(rebuilt)) {
+                log.info("[주문 통계] projection 백필 생략 - 이미 수행되었거나 다른 인스턴스가 수행 중");
+            }
+        } catch (Exception e) {
+            log.error("[주문 통계] projection 백필 실패", e);
+        }
+    }
+
+    // 보관 테이블(OrderArchiveService)로 옮겨진 주문도 통계에 포함
+    private static String source(String table, String columns, boolean archived) {
+        String select = "SELECT " + columns + " FROM " + table;
+        return archived ? select + " UNION ALL " + select + "_archive" : select;
+    }
+
+    private LocalDate statDate(OrderEntity order) {
+        return order.getCreatedAt() != null ? order.getCreatedAt().toLocalDate() : LocalDate.now();
+    }
+}
@@ -6,6 +6,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Persistable;
+
 import com.example.Spot.global.common.BaseEntity;
 import com.example.Spot.order.domain.enums.CancelledBy;
 import com.example.Spot.order.domain.enums.OrderStatus;
@@ -17,8 +19,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,10 +33,15 @@ import lombok.extern.slf4j.Slf4j;
 
 @Entity
 @Getter
-@Table(name = "p_order")
+@Table(name = "p_order", indexes = {
+        // keyset 페이지네이션 (created_at, id) 정렬/탐색용
+        @Index(name = "idx_order_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_order_user_created_at_id", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_order_store_created_at_id", columnList = "store_id, created_at, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Slf4j
-public class OrderEntity extends BaseEntity {
+public class OrderEntity extends BaseEntity implements Persistable<UUID> {
 
     // userId, storeId, pickupTime, orderItems가 DB unique constraint로 들어가야 하는데,
     // orderItems는 unique key에 포함할 수 없음.
@@ -98,6 +109,11 @@ public class OrderEntity extends BaseEntity {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<OrderItemEntity> orderItems = new ArrayList<>();
 
+    // id를 직접 할당하므로 Spring Data가 merge(SELECT 선행) 대신 persist를 쓰도록 신규 여부를 직접 관리
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
     @Builder
     public OrderEntity(UUID id, UUID storeId, Integer userId, String orderNumber,
                        String request, boolean needDisposables, LocalDateTime pickupTime,
@@ -125,6 +141,17 @@ public class OrderEntity extends BaseEntity {
         this.orderStatus = orderStatus != null ? orderStatus : OrderStatus.PAYMENT_PENDING;
     }
 
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     public void addOrderItem(OrderItemEntity orderItem) {
         if (orderItem == null) {
             throw new IllegalArgumentException("주문 항목은 null일 수 없습니다.");
@@ -10,7 +10,6 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
-import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -19,9 +18,8 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "p_order_outbox", indexes = {
-        @Index(name = "idx_order_outbox_created_at", columnList = "created_at")
-})
+// created_at 기준 일자별 range 파티션 테이블 (OrderOutboxPartitionService 참고). 파티션 키가 PK에 포함되어 DB PK는 (id, created_at)
+@Table(name = "p_order_outbox")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OrderOutboxEntity extends BaseEntity {
 
@@ -40,11 +38,12 @@ public class OrderOutboxEntity extends BaseEntity {
     @Column(name = "event_type", nullable = false)
     private String eventType;
 
-    @Column(columnDefinition = "TEXT", nullable = false)
-    private String payload;
+    // EventPayloadCodec으로 인코딩된 바이트 (JSON 또는 Smile)
+    @Column(nullable = false)
+    private byte[] payload;
 
     @Builder
-    public OrderOutboxEntity(String aggregateType, UUID aggregateId, String eventType, String payload) {
+    public OrderOutboxEntity(String aggregateType, UUID aggregateId, String eventType, byte[] payload) {
         this.aggregateType = aggregateType;
         this.aggregateId = aggregateId;
         this.eventType = eventType;
@@ -0,0 +1,44 @@
+package com.example.Spot.order.domain.entity;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 주문 통계 projection: (주문일, 가게)별 누적 매출. 주문 생성 시점에 한 번 더해지며 상태 전환과 무관함
+@Entity
+@Getter
+@Table(name = "p_order_revenue_stats")
+@IdClass(OrderRevenueStatsEntity.Key.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderRevenueStatsEntity {
+
+    @Id
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Id
+    @Column(name = "store_id", nullable = false, columnDefinition = "UUID")
+    private UUID storeId;
+
+    @Column(name = "revenue", nullable = false, precision = 19, scale = 2)
+    private BigDecimal revenue;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate statDate;
+        private UUID storeId;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.Spot.order.domain.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.example.Spot.order.domain.enums.OrderStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 주문 통계 projection: (주문일, 가게, 상태)별 주문 수. OrderActivityImpl에서 상태 전환과 같은 트랜잭션으로 갱신됨
+@Entity
+@Getter
+@Table(name = "p_order_stats")
+@IdClass(OrderStatsEntity.Key.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderStatsEntity {
+
+    @Id
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Id
+    @Column(name = "store_id", nullable = false, columnDefinition = "UUID")
+    private UUID storeId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "order_status", nullable = false, length = 20)
+    private OrderStatus orderStatus;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate statDate;
+        private UUID storeId;
+        private OrderStatus orderStatus;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.Spot.order.domain.exception;
+
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    public IdempotencyKeyInProgressException() {
+        super("같은 Idempotency-Key의 주문이 처리 중입니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.Spot.order.domain.exception;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+
+@Getter
+public class PickupSlotFullException extends RuntimeException {
+
+    private final LocalDateTime requestedPickupTime;
+    // 가장 가까운 예약 가능 시간대 시작 시각. 탐색 범위 안에 없으면 null
+    private final LocalDateTime nextAvailablePickupTime;
+
+    public PickupSlotFullException(LocalDateTime requestedPickupTime, LocalDateTime nextAvailablePickupTime) {
+        super("선택한 픽업 시간대의 주문이 마감되었습니다.");
+        this.requestedPickupTime = requestedPickupTime;
+        this.nextAvailablePickupTime = nextAvailablePickupTime;
+    }
+}
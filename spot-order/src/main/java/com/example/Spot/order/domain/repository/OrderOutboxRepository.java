@@ -1,20 +1,11 @@
 package com.example.Spot.order.domain.repository;
 
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.example.Spot.order.domain.entity.OrderOutboxEntity;
 
+// 보관 기간이 지난 행은 OrderOutboxPartitionService가 파티션 단위로 삭제한다
 public interface OrderOutboxRepository extends JpaRepository<OrderOutboxEntity, UUID> {
-    
-    @Transactional
-    @Modifying
-    @Query("DELETE FROM OrderOutboxEntity o WHERE o.createdAt < :threshold")
-    int deleteOlderThan(@Param("threshold") LocalDateTime threshold);
 }
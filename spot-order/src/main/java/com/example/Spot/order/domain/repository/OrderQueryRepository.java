@@ -0,0 +1,288 @@
+package com.example.Spot.order.domain.repository;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.Spot.order.domain.enums.CancelledBy;
+import com.example.Spot.order.domain.enums.OrderStatus;
+import com.example.Spot.order.presentation.dto.response.OrderItemOptionResponseDto;
+import com.example.Spot.order.presentation.dto.response.OrderItemResponseDto;
+import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 목록 조회 전용 read path.
+ * 엔티티/영속성 컨텍스트를 거치지 않고 페이지당 최대 2개의 SQL로 OrderResponseDto를 바로 조립한다.
+ *  1) 주문 행 (+ COUNT(*) OVER() 로 전체 건수) - DB에서 limit 적용
+ *  2) 해당 주문들의 아이템 LEFT JOIN 옵션 (flat tuple)
+ * 범위를 벗어난 페이지(빈 결과 + offset > 0)에서만 전체 건수를 위한 COUNT 쿼리가 추가로 실행된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderQueryRepository {
+
+    private static final String ORDER_FIELDS = """
+            id, user_id, store_id, order_number, need_disposables, request, pickup_time,
+            order_status, estimated_time, reason, cancelled_by,
+            payment_completed_at, payment_failed_at, accepted_at, rejected_at,
+            cooking_started_at, cooking_completed_at, picked_up_at, cancelled_at, created_at
+            """;
+    private static final String ITEM_FIELDS = "id, order_id, menu_id, menu_name, menu_price, quantity, created_at";
+    private static final String OPTION_FIELDS =
+            "id, order_item_id, menu_option_id, option_name, option_detail, option_price, created_at";
+
+    private static final String ORDER_COLUMNS = """
+            o.id, o.user_id, o.store_id, o.order_number, o.need_disposables, o.request, o.pickup_time,
+            o.order_status, o.estimated_time, o.reason, o.cancelled_by,
+            o.payment_completed_at, o.payment_failed_at, o.accepted_at, o.rejected_at,
+            o.cooking_started_at, o.cooking_completed_at, o.picked_up_at, o.cancelled_at, o.created_at
+            """;
+
+    private static final String ITEM_OPTION_SQL = """
+            SELECT oi.order_id, oi.id AS item_id, oi.menu_id, oi.menu_name, oi.menu_price, oi.quantity,
+                   oi.created_at AS item_created_at,
+                   oio.id AS option_id, oio.menu_option_id, oio.option_name, oio.option_detail,
+                   oio.option_price, oio.created_at AS option_created_at
+            FROM %s oi
+            LEFT JOIN %s oio ON oio.order_item_id = oi.id
+            WHERE oi.order_id IN (:orderIds)
+            ORDER BY oi.created_at, oi.id, oio.created_at, oio.id
+            """;
+
+    // 이력 조회(includeArchive)용 source. 주문은 아이템/옵션과 함께 한 트랜잭션에서 보관 테이블로 옮겨지므로 양쪽에 중복되지 않는다
+    private static final Tables HOT = new Tables("p_order", "p_order_item", "p_order_item_option");
+    private static final Tables WITH_ARCHIVE = new Tables(
+            unionAll("p_order", ORDER_FIELDS),
+            unionAll("p_order_item", ITEM_FIELDS),
+            unionAll("p_order_item_option", OPTION_FIELDS));
+
+    // 정렬 가능한 속성 화이트리스트 (요청 파라미터가 그대로 SQL에 들어가지 않도록)
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "createdAt", "o.created_at",
+            "pickupTime", "o.pickup_time",
+            "orderNumber", "o.order_number",
+            "orderStatus", "o.order_status");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public Page<OrderResponseDto> findPage(OrderSearchCondition condition, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = buildWhere(condition, params);
+        Tables tables = tablesFor(condition);
+
+        params.addValue("limit", pageable.getPageSize());
+        params.addValue("offset", pageable.getOffset());
+
+        String sql = "SELECT " + ORDER_COLUMNS + ", COUNT(*) OVER() AS total_count " +
+                "FROM " + tables.orders() + " o " + where + " " + buildOrderBy(pageable.getSort()) +
+                " LIMIT :limit OFFSET :offset";
+
+        Map<UUID, OrderResponseDto.OrderResponseDtoBuilder> orders = new LinkedHashMap<>();
+        long[] total = {0L};
+        jdbcTemplate.query(sql, params, rs -> {
+            total[0] = rs.getLong("total_count");
+            orders.put(rs.getObject("id", UUID.class), mapOrder(rs));
+        });
+
+        List<OrderResponseDto> content = assemble(tables, orders);
+        return PageableExecutionUtils.getPage(content, pageable, () -> orders.isEmpty()
+                ? count(tables, where, params)
+                : total[0]);
+    }
+
+    /**
+     * keyset 조회: (created_at, id) 내림차순으로 cursor 이후 limit건.
+     */
+    public List<OrderResponseDto> findAfter(OrderSearchCondition condition,
+                                            LocalDateTime cursorCreatedAt,
+                                            UUID cursorId,
+                                            int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder where = new StringBuilder(buildWhere(condition, params));
+        Tables tables = tablesFor(condition);
+
+        if (cursorCreatedAt != null && cursorId != null) {
+            // row 값 비교여야 (user_id|store_id, created_at, id) 인덱스의 시작 위치로 쓰여 깊은 페이지도 cursor부터 읽는다
+            where.append(where.isEmpty() ? "WHERE " : " AND ")
+                    .append("(o.created_at, o.id) < (:cursorCreatedAt, :cursorId)");
+            params.addValue("cursorCreatedAt", cursorCreatedAt);
+            params.addValue("cursorId", cursorId);
+        }
+        params.addValue("limit", limit);
+
+        String sql = "SELECT " + ORDER_COLUMNS + " FROM " + tables.orders() + " o " + where +
+                " ORDER BY o.created_at DESC, o.id DESC LIMIT :limit";
+
+        Map<UUID, OrderResponseDto.OrderResponseDtoBuilder> orders = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, params, rs -> {
+            orders.put(rs.getObject("id", UUID.class), mapOrder(rs));
+        });
+        return assemble(tables, orders);
+    }
+
+    private long count(Tables tables, String where, MapSqlParameterSource params) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + tables.orders() + " o " + where, params, Long.class);
+        return count != null ? count : 0L;
+    }
+
+    private List<OrderResponseDto> assemble(Tables tables, Map<UUID, OrderResponseDto.OrderResponseDtoBuilder> orderMap) {
+        if (orderMap.isEmpty()) {
+            return List.of();
+        }
+
+        // orderId → (itemId → item 행 + 옵션 목록)
+        Map<UUID, Map<UUID, ItemRow>> itemsByOrder = new LinkedHashMap<>();
+        jdbcTemplate.query(ITEM_OPTION_SQL.formatted(tables.items(), tables.options()),
+                new MapSqlParameterSource("orderIds", new ArrayList<>(orderMap.keySet())),
+                rs -> {
+                    UUID orderId = rs.getObject("order_id", UUID.class);
+                    UUID itemId = rs.getObject("item_id", UUID.class);
+                    ItemRow item = itemsByOrder
+                            .computeIfAbsent(orderId, k -> new LinkedHashMap<>())
+                            .computeIfAbsent(itemId, k -> mapItem(rs, itemId));
+
+                    UUID optionId = rs.getObject("option_id", UUID.class);
+                    if (optionId != null) {
+                        item.options().add(OrderItemOptionResponseDto.builder()
+                                .id(optionId)
+                                .menuOptionId(rs.getObject("menu_option_id", UUID.class))
+                                .optionName(rs.getString("option_name"))
+                                .optionDetail(rs.getString("option_detail"))
+                                .optionPrice(rs.getBigDecimal("option_price"))
+                                .createdAt(rs.getObject("option_created_at", LocalDateTime.class))
+                                .build());
+                    }
+                });
+
+        List<OrderResponseDto> result = new ArrayList<>(orderMap.size());
+        orderMap.forEach((orderId, builder) -> {
+            List<OrderItemResponseDto> items = itemsByOrder.getOrDefault(orderId, Map.of()).values().stream()
+                    .map(ItemRow::toDto)
+                    .toList();
+            result.add(builder
+                    .orderItems(items)
+                    .totalAmount(OrderResponseDto.totalAmountOf(items))
+                    .build());
+        });
+        return result;
+    }
+
+    private Tables tablesFor(OrderSearchCondition condition) {
+        return condition.includeArchive() ? WITH_ARCHIVE : HOT;
+    }
+
+    private static String unionAll(String table, String fields) {
+        return "(SELECT " + fields + " FROM " + table
+                + " UNION ALL SELECT " + fields + " FROM " + table + "_archive)";
+    }
+
+    private String buildWhere(OrderSearchCondition condition, MapSqlParameterSource params) {
+        List<String> clauses = new ArrayList<>();
+        if (condition.userId() != null) {
+            clauses.add("o.user_id = :userId");
+            params.addValue("userId", condition.userId());
+        }
+        if (condition.storeId() != null) {
+            clauses.add("o.store_id = :storeId");
+            params.addValue("storeId", condition.storeId());
+        }
+        if (condition.status() != null) {
+            clauses.add("o.order_status = :status");
+            params.addValue("status", condition.status().name());
+        }
+        if (condition.startDate() != null) {
+            clauses.add("o.created_at >= :startDate");
+            params.addValue("startDate", condition.startDate());
+        }
+        if (condition.endDate() != null) {
+            clauses.add("o.created_at <= :endDate");
+            params.addValue("endDate", condition.endDate());
+        }
+        return clauses.isEmpty() ? "" : "WHERE " + String.join(" AND ", clauses);
+    }
+
+    private String buildOrderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column != null) {
+                orders.add(column + (order.isAscending() ? " ASC" : " DESC"));
+            }
+        }
+        if (orders.isEmpty()) {
+            orders.add("o.created_at DESC");
+        }
+        // 동일 정렬 값 사이에서도 페이지 경계가 흔들리지 않도록 id를 마지막 정렬 키로 추가
+        orders.add("o.id DESC");
+        return "ORDER BY " + String.join(", ", orders);
+    }
+
+    private OrderResponseDto.OrderResponseDtoBuilder mapOrder(ResultSet rs) throws SQLException {
+        String cancelledBy = rs.getString("cancelled_by");
+        return OrderResponseDto.builder()
+                .id(rs.getObject("id", UUID.class))
+                .userId(rs.getObject("user_id", Integer.class))
+                .storeId(rs.getObject("store_id", UUID.class))
+                .storeName(null) // MSA: Store 서비스에서 별도 조회 필요
+                .orderNumber(rs.getString("order_number"))
+                .needDisposables(rs.getObject("need_disposables", Boolean.class))
+                .request(rs.getString("request"))
+                .pickupTime(rs.getObject("pickup_time", LocalDateTime.class))
+                .orderStatus(OrderStatus.valueOf(rs.getString("order_status")))
+                .estimatedTime(rs.getObject("estimated_time", Integer.class))
+                .reason(rs.getString("reason"))
+                .cancelledBy(cancelledBy != null ? CancelledBy.valueOf(cancelledBy) : null)
+                .paymentCompletedAt(rs.getObject("payment_completed_at", LocalDateTime.class))
+                .paymentFailedAt(rs.getObject("payment_failed_at", LocalDateTime.class))
+                .acceptedAt(rs.getObject("accepted_at", LocalDateTime.class))
+                .rejectedAt(rs.getObject("rejected_at", LocalDateTime.class))
+                .cookingStartedAt(rs.getObject("cooking_started_at", LocalDateTime.class))
+                .cookingCompletedAt(rs.getObject("cooking_completed_at", LocalDateTime.class))
+                .pickedUpAt(rs.getObject("picked_up_at", LocalDateTime.class))
+                .cancelledAt(rs.getObject("cancelled_at", LocalDateTime.class))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class));
+    }
+
+    private ItemRow mapItem(ResultSet rs, UUID itemId) {
+        try {
+            return new ItemRow(
+                    itemId,
+                    rs.getObject("menu_id", UUID.class),
+                    rs.getString("menu_name"),
+                    rs.getBigDecimal("menu_price"),
+                    rs.getInt("quantity"),
+                    rs.getObject("item_created_at", LocalDateTime.class),
+                    new ArrayList<>());
+        } catch (SQLException e) {
+            throw new IllegalStateException("주문 아이템 매핑 실패: " + itemId, e);
+        }
+    }
+
+    private record Tables(String orders, String items, String options) {
+    }
+
+    private record ItemRow(UUID id, UUID menuId, String menuName, BigDecimal menuPrice, Integer quantity,
+                           LocalDateTime createdAt, List<OrderItemOptionResponseDto> options) {
+
+        OrderItemResponseDto toDto() {
+            return OrderItemResponseDto.of(id, menuId, menuName, menuPrice, quantity, createdAt, options);
+        }
+    }
+}
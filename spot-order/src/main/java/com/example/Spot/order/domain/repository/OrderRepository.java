@@ -5,8 +5,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -118,101 +116,20 @@ public interface OrderRepository extends JpaRepository<OrderEntity, UUID> {
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
-    // ========== 페이지네이션 쿼리 (JOIN FETCH + 필터링) ==========
-    // MultipleBagFetchException 방지를 위해 orderItemOptions는 별도 조회 후 매핑
-
-    // 고객 주문 조회 (페이지네이션)
-    @Query(value = "SELECT DISTINCT o FROM OrderEntity o " +
-            "LEFT JOIN FETCH o.orderItems " +
-            "WHERE o.userId = :userId " +
-            "AND (CAST(:storeId AS string) IS NULL OR o.storeId = :storeId) " +
-            "AND (CAST(:status AS string) IS NULL OR o.orderStatus = :status) " +
-            "AND (CAST(:startDate AS timestamp) IS NULL OR o.createdAt >= :startDate) " +
-            "AND (CAST(:endDate AS timestamp) IS NULL OR o.createdAt <= :endDate)",
-            countQuery = "SELECT COUNT(DISTINCT o) FROM OrderEntity o " +
-            "WHERE o.userId = :userId " +
-            "AND (CAST(:storeId AS string) IS NULL OR o.storeId = :storeId) " +
-            "AND (CAST(:status AS string) IS NULL OR o.orderStatus = :status) " +
-            "AND (CAST(:startDate AS timestamp) IS NULL OR o.createdAt >= :startDate) " +
-            "AND (CAST(:endDate AS timestamp) IS NULL OR o.createdAt <= :endDate)")
-    Page<OrderEntity> findUserOrdersWithFilters(
-            @Param("userId") Integer userId,
-            @Param("storeId") UUID storeId,
-            @Param("status") OrderStatus status,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable);
-
-    // 점주 매장 주문 조회 (페이지네이션)
-    @Query(value = "SELECT DISTINCT o FROM OrderEntity o " +
-            "LEFT JOIN FETCH o.orderItems " +
-            "WHERE o.storeId = :storeId " +
-            "AND (CAST(:customerId AS string) IS NULL OR o.userId = :customerId) " +
-            "AND (CAST(:status AS string) IS NULL OR o.orderStatus = :status) " +
-            "AND (CAST(:startDate AS timestamp) IS NULL OR o.createdAt >= :startDate) " +
-            "AND (CAST(:endDate AS timestamp) IS NULL OR o.createdAt <= :endDate)",
-            countQuery = "SELECT COUNT(DISTINCT o) FROM OrderEntity o " +
-            "WHERE o.storeId = :storeId " +
-            "AND (CAST(:customerId AS string) IS NULL OR o.userId = :customerId) " +
-            "AND (CAST(:status AS string) IS NULL OR o.orderStatus = :status) " +
-            "AND (CAST(:startDate AS timestamp) IS NULL OR o.createdAt >= :startDate) " +
-            "AND (CAST(:endDate AS timestamp) IS NULL OR o.createdAt <= :endDate)")
-    Page<OrderEntity> findStoreOrdersWithFilters(
-            @Param("storeId") UUID storeId,
-            @Param("customerId") Integer customerId,
-            @Param("status") OrderStatus status,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable);
-
-    // 관리자 전체 주문 조회 (페이지네이션)
-    @Query(value = "SELECT DISTINCT o FROM OrderEntity o " +
-            "LEFT JOIN FETCH o.orderItems " +
-            "WHERE (CAST(:storeId AS string) IS NULL OR o.storeId = :storeId) " +
-            "AND (CAST(:status AS string) IS NULL OR o.orderStatus = :status) " +
-            "AND (CAST(:startDate AS timestamp) IS NULL OR o.createdAt >= :startDate) " +
-            "AND (CAST(:endDate AS timestamp) IS NULL OR o.createdAt <= :endDate)",
-            countQuery = "SELECT COUNT(DISTINCT o) FROM OrderEntity o " +
-            "WHERE (CAST(:storeId AS string) IS NULL OR o.storeId = :storeId) " +
-            "AND (CAST(:status AS string) IS NULL OR o.orderStatus = :status) " +
-            "AND (CAST(:startDate AS timestamp) IS NULL OR o.createdAt >= :startDate) " +
-            "AND (CAST(:endDate AS timestamp) IS NULL OR o.createdAt <= :endDate)")
-    Page<OrderEntity> findAllOrdersWithFilters(
+    // 일괄 상태 변경 대상 검증용: 매장 소속 주문의 현재 상태만 조회 (id, orderStatus)
+    @Query("SELECT o.id, o.orderStatus FROM OrderEntity o " +
+            "WHERE o.storeId = :storeId AND o.id IN :orderIds")
+    List<Object[]> findStatusesByStoreIdAndIdIn(
             @Param("storeId") UUID storeId,
-            @Param("status") OrderStatus status,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable);
+            @Param("orderIds") List<UUID> orderIds);
 
-    @Query(value = "SELECT order_number FROM p_order " +
-            "WHERE order_number LIKE :datePattern " +
-            "ORDER BY order_number DESC " +
-            "LIMIT 1", nativeQuery = true)
-    Optional<String> findTopOrderNumberByDatePattern(@Param("datePattern") String datePattern);
+    // 주문번호 카운터 복구용. 9999건 이후 자릿수가 늘어나므로 문자열 정렬이 아닌 숫자 MAX로 조회
+    @Query(value = "SELECT MAX(CAST(SUBSTRING(order_number FROM 16) AS INTEGER)) FROM p_order " +
+            "WHERE order_number LIKE :datePattern", nativeQuery = true)
+    Optional<Integer> findMaxOrderSequenceByDatePattern(@Param("datePattern") String datePattern);
 
     // internal admin
-    @Query("""
-    SELECT o.orderStatus, COUNT(o)
-    FROM OrderEntity o
-    GROUP BY o.orderStatus
-""")
-    List<Object[]> countGroupByStatus();
-
     long countByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
 
     long countByOrderStatusIn(List<OrderStatus> statuses);
-
-
-
-    @Query("SELECT DISTINCT o FROM OrderEntity o " +
-            "LEFT JOIN FETCH o.orderItems " +
-            "WHERE o.userId = :userId " +
-            "AND o.storeId = :storeId " +
-            "AND o.pickupTime = :pickupTime " +
-            "AND o.orderStatus NOT IN ('CANCELLED', 'REJECTED', 'PAYMENT_FAILED', 'COMPLETED')")
-    List<OrderEntity> findActiveOrdersByUserAndStoreAndPickupTime(
-            @Param("userId") Integer userId,
-            @Param("storeId") UUID storeId,
-            @Param("pickupTime") LocalDateTime pickupTime);
 }
-
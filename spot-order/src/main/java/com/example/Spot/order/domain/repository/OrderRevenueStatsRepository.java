@@ -0,0 +1,31 @@
+package com.example.Spot.order.domain.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.Spot.order.domain.entity.OrderRevenueStatsEntity;
+
+@Repository
+public interface OrderRevenueStatsRepository extends JpaRepository<OrderRevenueStatsEntity, OrderRevenueStatsEntity.Key> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO p_order_revenue_stats (stat_date, store_id, revenue)
+            VALUES (:statDate, :storeId, :amount)
+            ON CONFLICT (stat_date, store_id)
+            DO UPDATE SET revenue = p_order_revenue_stats.revenue + EXCLUDED.revenue
+            """, nativeQuery = true)
+    void addRevenue(@Param("statDate") LocalDate statDate,
+                    @Param("storeId") UUID storeId,
+                    @Param("amount") BigDecimal amount);
+
+    @Query("SELECT COALESCE(SUM(r.revenue), 0) FROM OrderRevenueStatsEntity r")
+    BigDecimal sumRevenue();
+}
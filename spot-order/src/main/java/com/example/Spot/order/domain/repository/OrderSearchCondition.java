@@ -0,0 +1,20 @@
+package com.example.Spot.order.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.example.Spot.order.domain.enums.OrderStatus;
+
+import lombok.Builder;
+
+// 주문 목록 조회 필터. null인 항목은 조건에서 제외됨
+@Builder
+public record OrderSearchCondition(
+        Integer userId,
+        UUID storeId,
+        OrderStatus status,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        // true면 보관 테이블(p_order_archive 등)까지 함께 조회 (오래된 이력 조회용)
+        boolean includeArchive) {
+}
@@ -0,0 +1,37 @@
+package com.example.Spot.order.domain.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.Spot.order.domain.entity.OrderStatsEntity;
+
+@Repository
+public interface OrderStatsRepository extends JpaRepository<OrderStatsEntity, OrderStatsEntity.Key> {
+
+    // 동시 갱신에도 카운트가 유실되지 않도록 DB에서 원자적으로 증감 (Postgres upsert)
+    @Modifying
+    @Query(value = """
+            INSERT INTO p_order_stats (stat_date, store_id, order_status, order_count)
+            VALUES (:statDate, :storeId, :orderStatus, :delta)
+            ON CONFLICT (stat_date, store_id, order_status)
+            DO UPDATE SET order_count = p_order_stats.order_count + EXCLUDED.order_count
+            """, nativeQuery = true)
+    void addCount(@Param("statDate") LocalDate statDate,
+                  @Param("storeId") UUID storeId,
+                  @Param("orderStatus") String orderStatus,
+                  @Param("delta") long delta);
+
+    @Query("""
+            SELECT s.orderStatus, SUM(s.orderCount)
+            FROM OrderStatsEntity s
+            GROUP BY s.orderStatus
+            """)
+    List<Object[]> sumCountGroupByStatus();
+}
@@ -0,0 +1,15 @@
+package com.example.Spot.order.infrastructure.aop;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * (OrderCreateRequestDto, userId, idempotencyKey) 순서의 주문 생성 메서드에 Idempotency-Key 응답 재사용을 적용한다.
+ * {@link ValidateStoreAndMenu}보다 먼저 실행되므로 재시도 요청은 가게/메뉴 조회 없이 저장된 응답을 받는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface IdempotentOrderCreation {
+}
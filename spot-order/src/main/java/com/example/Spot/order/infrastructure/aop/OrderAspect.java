@@ -1,21 +1,33 @@
 package com.example.Spot.order.infrastructure.aop;
 
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.example.Spot.global.feign.MenuClient;
-import com.example.Spot.global.feign.StoreClient;
+import com.example.Spot.global.feign.StoreCatalogReader;
 import com.example.Spot.global.feign.dto.MenuOptionResponse;
+import com.example.Spot.global.feign.dto.MenuResolveResponse;
 import com.example.Spot.global.feign.dto.MenuResponse;
 import com.example.Spot.global.feign.dto.StoreResponse;
 import com.example.Spot.global.feign.dto.StoreUserResponse;
+import com.example.Spot.global.infrastructure.concurrent.FanOutExecutor;
+import com.example.Spot.global.infrastructure.concurrent.FanOutScope;
+import com.example.Spot.global.infrastructure.concurrent.FanOutScope.Branch;
 import com.example.Spot.order.domain.entity.OrderEntity;
 import com.example.Spot.order.domain.repository.OrderRepository;
 import com.example.Spot.order.infrastructure.aop.OrderValidationContext.ContextData;
+import com.example.Spot.order.infrastructure.metrics.OrderStage;
+import com.example.Spot.order.infrastructure.metrics.OrderStageTimer;
 import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
 import com.example.Spot.order.presentation.dto.request.OrderItemOptionRequestDto;
 import com.example.Spot.order.presentation.dto.request.OrderItemRequestDto;
@@ -32,9 +44,13 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class OrderAspect {
 
-    private final StoreClient storeClient;
-    private final MenuClient menuClient;
+    private final StoreCatalogReader storeCatalogReader;
     private final OrderRepository orderRepository;
+    private final FanOutExecutor fanOutExecutor;
+    private final OrderStageTimer orderStageTimer;
+
+    @Value("${order.context.fetch-deadline:1500ms}")
+    private Duration contextFetchDeadline;
 
     @Around("@annotation(validateStoreAndMenu)")
     @CircuitBreaker(name = "store_menus_validation")
@@ -44,32 +60,69 @@ public class OrderAspect {
             ProceedingJoinPoint joinPoint,
             ValidateStoreAndMenu validateStoreAndMenu) throws Throwable {
 
+        // 가게/메뉴 조회(Feign)와 검증 구간. 재시도 시 시도마다 기록됨
+        long validationStart = System.nanoTime();
+        boolean validated = false;
         try {
             OrderCreateRequestDto requestDto = (OrderCreateRequestDto) joinPoint.getArgs()[0];
             ContextData contextData = new ContextData();
 
-            // Store 서비스에서 가게 정보 조회
-            StoreResponse store = storeClient.getStoreById(requestDto.getStoreId());
+            // 주문에 포함된 메뉴/옵션 ID 수집
+            Set<UUID> menuIds = new HashSet<>();
+            Set<UUID> menuOptionIds = new HashSet<>();
+            for (OrderItemRequestDto itemDto : requestDto.getOrderItems()) {
+                menuIds.add(itemDto.getMenuId());
+                for (OrderItemOptionRequestDto optionDto : itemDto.getOptions()) {
+                    menuOptionIds.add(optionDto.getMenuOptionId());
+                }
+            }
+
+            // 가게 조회 / 메뉴·옵션 일괄 조회는 서로 독립적이므로 동시에 실행
+            StoreResponse store;
+            MenuResolveResponse resolved;
+            try (FanOutScope scope = fanOutExecutor.open("order_context", contextFetchDeadline)) {
+                Branch<StoreResponse> storeBranch = scope.fork("store",
+                        () -> storeCatalogReader.getStore(requestDto.getStoreId()));
+                Branch<MenuResolveResponse> menuBranch = scope.fork("menus",
+                        () -> storeCatalogReader.resolveMenus(menuIds, menuOptionIds));
+
+                scope.join();
+
+                store = storeBranch.get();
+                resolved = menuBranch.get();
+            }
+
             if (store == null) {
                 throw new IllegalArgumentException("존재하지 않는 가게입니다.");
             }
             contextData.setStoreResponse(store);
 
+            Map<UUID, MenuResponse> menuMap = resolved.getMenus().stream()
+                    .collect(Collectors.toMap(MenuResponse::getId, Function.identity()));
+            Map<UUID, MenuOptionResponse> menuOptionMap = resolved.getMenuOptions().stream()
+                    .collect(Collectors.toMap(MenuOptionResponse::getId, Function.identity()));
+
             for (OrderItemRequestDto itemDto : requestDto.getOrderItems()) {
-                // Menu 서비스에서 메뉴 정보 조회
-                MenuResponse menu = menuClient.getMenuById(itemDto.getMenuId());
-                if (menu == null) {
-                    throw new IllegalArgumentException("존재하지 않는 메뉴입니다: " + itemDto.getMenuId());
-                }
+                // 같은 메뉴가 장바구니에 여러 번 담긴 경우 검증은 한 번만 수행
+                if (!contextData.hasMenuResponse(itemDto.getMenuId())) {
+                    MenuResponse menu = menuMap.get(itemDto.getMenuId());
+                    if (menu == null) {
+                        throw new IllegalArgumentException("존재하지 않는 메뉴입니다: " + itemDto.getMenuId());
+                    }
 
-                if (menu.isHidden() || menu.isDeleted()) {
-                    throw new IllegalArgumentException("판매 중지된 메뉴입니다: " + menu.getName());
-                }
+                    if (menu.isHidden() || menu.isDeleted()) {
+                        throw new IllegalArgumentException("판매 중지된 메뉴입니다: " + menu.getName());
+                    }
 
-                contextData.addMenuResponse(itemDto.getMenuId(), menu);
+                    contextData.addMenuResponse(itemDto.getMenuId(), menu);
+                }
 
                 for (OrderItemOptionRequestDto optionDto : itemDto.getOptions()) {
-                    MenuOptionResponse menuOption = menuClient.getMenuOptionById(optionDto.getMenuOptionId());
+                    if (contextData.hasMenuOptionResponse(optionDto.getMenuOptionId())) {
+                        continue;
+                    }
+
+                    MenuOptionResponse menuOption = menuOptionMap.get(optionDto.getMenuOptionId());
                     if (menuOption == null) {
                         throw new IllegalArgumentException("존재하지 않는 옵션입니다: " + optionDto.getMenuOptionId());
                     }
@@ -83,10 +136,15 @@ public class OrderAspect {
             }
 
             OrderValidationContext.set(contextData);
+            validated = true;
+            orderStageTimer.record(OrderStage.STORE_VALIDATION, System.nanoTime() - validationStart, true);
 
             return joinPoint.proceed();
 
         } finally {
+            if (!validated) {
+                orderStageTimer.record(OrderStage.STORE_VALIDATION, System.nanoTime() - validationStart, false);
+            }
             OrderValidationContext.clear();
         }
     }
@@ -158,7 +216,7 @@ public class OrderAspect {
         log.debug("[가게 소유권 검증] UserId: {}", userId);
 
         // Store 서비스에서 StoreUser 정보 조회
-        StoreUserResponse storeUser = storeClient.getStoreUserByUserId(userId);
+        StoreUserResponse storeUser = storeCatalogReader.getStoreUser(userId);
         if (storeUser == null) {
             throw new IllegalArgumentException("소속된 매장이 없습니다.");
         }
@@ -0,0 +1,56 @@
+package com.example.Spot.order.infrastructure.aop;
+
+import java.util.Optional;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.order.infrastructure.guard.OrderIdempotencyGuard;
+import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
+import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
+
+import lombok.RequiredArgsConstructor;
+
+// OrderAspect(@ValidateStoreAndMenu)와 트랜잭션보다 바깥에서 실행되어야 하므로 우선순위를 가장 높게 둔다
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class OrderIdempotencyAspect {
+
+    private final OrderIdempotencyGuard orderIdempotencyGuard;
+
+    @Around("@annotation(idempotentOrderCreation)")
+    public Object handleIdempotentOrderCreation(
+            ProceedingJoinPoint joinPoint,
+            IdempotentOrderCreation idempotentOrderCreation) throws Throwable {
+
+        Object[] args = joinPoint.getArgs();
+        OrderCreateRequestDto requestDto = (OrderCreateRequestDto) args[0];
+        Integer userId = (Integer) args[1];
+        String idempotencyKey = (String) args[2];
+        if (idempotencyKey == null) {
+            return joinPoint.proceed();
+        }
+        OrderIdempotencyGuard.validateKey(idempotencyKey);
+
+        Optional<OrderResponseDto> stored = orderIdempotencyGuard.claim(userId, idempotencyKey, requestDto);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+
+        OrderResponseDto response;
+        try {
+            response = (OrderResponseDto) joinPoint.proceed();
+        } catch (Throwable e) {
+            orderIdempotencyGuard.release(userId, idempotencyKey);
+            throw e;
+        }
+        orderIdempotencyGuard.complete(userId, idempotencyKey, requestDto, response);
+        return response;
+    }
+}
@@ -8,6 +8,7 @@ import com.example.Spot.global.feign.dto.MenuOptionResponse;
 import com.example.Spot.global.feign.dto.MenuResponse;
 import com.example.Spot.global.feign.dto.StoreResponse;
 import com.example.Spot.order.domain.entity.OrderEntity;
+import com.example.Spot.order.presentation.dto.response.OrderContextDto;
 
 public class OrderValidationContext {
 
@@ -19,6 +20,7 @@ public class OrderValidationContext {
         private StoreResponse storeResponse;
         private Map<UUID, MenuResponse> menuResponseMap = new HashMap<>();
         private Map<UUID, MenuOptionResponse> menuOptionResponseMap = new HashMap<>();
+        private OrderContextDto orderContext;
 
         public StoreResponse getStoreResponse() {
             return storeResponse;
@@ -43,6 +45,26 @@ public class OrderValidationContext {
         public MenuOptionResponse getMenuOptionResponse(UUID optionId) {
             return menuOptionResponseMap.get(optionId);
         }
+
+        public boolean hasMenuResponse(UUID menuId) {
+            return menuResponseMap.containsKey(menuId);
+        }
+
+        public boolean hasMenuOptionResponse(UUID optionId) {
+            return menuOptionResponseMap.containsKey(optionId);
+        }
+
+        // 요청당 한 번만 생성하고, 이후에는 같은 인스턴스를 재사용
+        public OrderContextDto toOrderContext() {
+            if (orderContext == null) {
+                orderContext = OrderContextDto.builder()
+                        .store(storeResponse)
+                        .menuMap(new HashMap<>(menuResponseMap))
+                        .optionMap(new HashMap<>(menuOptionResponseMap))
+                        .build();
+            }
+            return orderContext;
+        }
     }
 
     public static void set(ContextData data) {
@@ -72,6 +94,11 @@ public class OrderValidationContext {
         return data != null ? data.getMenuOptionResponse(optionId) : null;
     }
 
+    public static OrderContextDto getOrderContext() {
+        ContextData data = get();
+        return data != null ? data.toOrderContext() : null;
+    }
+
     // 주문 상태 변경용 메서드
     public static void setCurrentOrder(OrderEntity order) {
         CURRENT_ORDER.set(order);
@@ -0,0 +1,20 @@
+package com.example.Spot.order.infrastructure.board;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class OrderBoardConfig {
+
+    @Bean
+    public RedisMessageListenerContainer orderBoardListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                     OrderBoardHub orderBoardHub) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(orderBoardHub, new ChannelTopic(OrderBoardPublisher.CHANNEL));
+        return container;
+    }
+}
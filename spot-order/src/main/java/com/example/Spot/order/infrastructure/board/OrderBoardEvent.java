@@ -0,0 +1,29 @@
+package com.example.Spot.order.infrastructure.board;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.example.Spot.order.domain.enums.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 매장 주문 보드로 push되는 상태 변경 delta. id는 매장별로 단조 증가 (SSE Last-Event-ID)
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBoardEvent {
+
+    private long id;
+    private UUID storeId;
+    private UUID orderId;
+    private String orderNumber;
+    private OrderStatus previousStatus;
+    private OrderStatus orderStatus;
+    private Integer estimatedTime;
+    private LocalDateTime pickupTime;
+    private LocalDateTime occurredAt;
+}
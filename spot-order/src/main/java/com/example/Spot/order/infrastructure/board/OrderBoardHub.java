@@ -0,0 +1,211 @@
+package com.example.Spot.order.infrastructure.board;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매장별 주문 보드 SSE 연결과 최근 이벤트 ring buffer를 관리한다.
+ * 재연결 시 Last-Event-ID 이후 이벤트를 버퍼에서 재전송하고,
+ * 버퍼 범위를 벗어났으면 resync 이벤트로 클라이언트가 스냅샷(/my-store/active 등)을 다시 받도록 한다.
+ * 연결이 모두 끊긴 매장의 보드는 재연결을 기다리며 idle-retention 동안 이벤트를 계속 보관하고, 그 뒤 heartbeat에서 제거된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderBoardHub implements MessageListener {
+
+    static final String EVENT_ORDER_STATUS = "order-status";
+    static final String EVENT_READY = "ready";
+    static final String EVENT_RESYNC = "resync";
+
+    private final ObjectMapper objectMapper;
+    private final Map<UUID, StoreBoard> boards = new ConcurrentHashMap<>();
+
+    @Value("${order.board.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${order.board.emitter-timeout:30m}")
+    private Duration emitterTimeout;
+
+    @Value("${order.board.idle-retention:10m}")
+    private Duration idleRetention;
+
+    public SseEmitter subscribe(UUID storeId, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        while (true) {
+            StoreBoard board = boards.computeIfAbsent(storeId, id -> new StoreBoard());
+            // 재전송과 등록을 같은 락 안에서 처리해 그 사이 이벤트가 빠지거나 순서가 뒤바뀌지 않도록 함
+            synchronized (board) {
+                // 마지막 연결이 끊기면서 방금 맵에서 빠진 보드면 새 보드로 다시 시도
+                if (board.closed) {
+                    continue;
+                }
+                emitter.onCompletion(() -> release(board, emitter));
+                emitter.onTimeout(emitter::complete);
+                emitter.onError(e -> release(board, emitter));
+                try {
+                    if (lastEventId == null) {
+                        emitter.send(SseEmitter.event().name(EVENT_READY).data(board.lastId()));
+                    } else if (board.canReplayFrom(lastEventId)) {
+                        for (OrderBoardEvent event : board.buffer) {
+                            if (event.getId() > lastEventId) {
+                                emitter.send(toSse(event));
+                            }
+                        }
+                    } else {
+                        emitter.send(SseEmitter.event().name(EVENT_RESYNC).data(board.lastId()));
+                    }
+                    board.emitters.add(emitter);
+                    board.idleSince = null;
+                } catch (IOException e) {
+                    emitter.completeWithError(e);
+                }
+                return emitter;
+            }
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            OrderBoardEvent event = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), OrderBoardEvent.class);
+            append(event);
+        } catch (IOException e) {
+            log.warn("[주문 보드] 이벤트 역직렬화 실패: {}", e.getMessage());
+        }
+    }
+
+    // 이 인스턴스에 보드가 없는 매장(구독된 적 없거나 idle-retention이 지나 제거됨)의 이벤트는 보관하지 않음.
+    // 이후 재연결은 resync로 스냅샷을 다시 받는다
+    void append(OrderBoardEvent event) {
+        StoreBoard board = boards.get(event.getStoreId());
+        if (board == null) {
+            return;
+        }
+        synchronized (board) {
+            if (board.closed) {
+                return;
+            }
+            board.add(event, bufferSize);
+            broadcast(board, toSse(event));
+            markIdleIfEmpty(board);
+        }
+    }
+
+    // 프록시/LB의 idle timeout으로 끊기지 않도록 주기적으로 comment 전송 (끊긴 연결 정리 겸용)
+    @Scheduled(fixedDelayString = "${order.board.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        boards.forEach((storeId, board) -> {
+            synchronized (board) {
+                broadcast(board, SseEmitter.event().comment("ping"));
+                markIdleIfEmpty(board);
+                evictIfExpired(storeId, board);
+            }
+        });
+    }
+
+    private void release(StoreBoard board, SseEmitter emitter) {
+        synchronized (board) {
+            board.emitters.remove(emitter);
+            markIdleIfEmpty(board);
+        }
+    }
+
+    // board 락 안에서 호출
+    private void markIdleIfEmpty(StoreBoard board) {
+        if (board.emitters.isEmpty() && board.idleSince == null) {
+            board.idleSince = Instant.now();
+        }
+    }
+
+    // 연결 없이 idle-retention이 지난 보드(버퍼 포함)는 제거해 매장 수만큼 맵이 계속 늘지 않도록 함. board 락 안에서 호출
+    private void evictIfExpired(UUID storeId, StoreBoard board) {
+        if (board.idleSince != null && !board.idleSince.plus(idleRetention).isAfter(Instant.now())) {
+            board.closed = true;
+            boards.remove(storeId, board);
+        }
+    }
+
+    private void broadcast(StoreBoard board, SseEmitter.SseEventBuilder sse) {
+        Iterator<SseEmitter> iterator = board.emitters.iterator();
+        while (iterator.hasNext()) {
+            SseEmitter emitter = iterator.next();
+            try {
+                emitter.send(sse);
+            } catch (IOException | IllegalStateException e) {
+                iterator.remove();
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toSse(OrderBoardEvent event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.getId()))
+                .name(EVENT_ORDER_STATUS)
+                .data(event, MediaType.APPLICATION_JSON);
+    }
+
+    private static final class StoreBoard {
+
+        private final Deque<OrderBoardEvent> buffer = new ArrayDeque<>();
+        private final List<SseEmitter> emitters = new ArrayList<>();
+        // 마지막 연결이 끊긴 시각. 연결이 있으면 null
+        private Instant idleSince;
+        // 맵에서 제거된 보드. 제거 직전에 얻은 참조로 구독이 등록되지 않도록 확인
+        private boolean closed;
+
+        private long lastId() {
+            return buffer.isEmpty() ? 0L : buffer.peekLast().getId();
+        }
+
+        // 버퍼가 lastEventId 바로 다음 이벤트부터 보관하고 있을 때만 재전송 가능
+        private boolean canReplayFrom(long lastEventId) {
+            if (buffer.isEmpty()) {
+                return false;
+            }
+            return lastEventId >= buffer.peekFirst().getId() - 1 && lastEventId <= lastId();
+        }
+
+        // 인스턴스 간 발행 순서가 뒤바뀌어 도착할 수 있으므로 id 순서를 유지하며 삽입
+        private void add(OrderBoardEvent event, int capacity) {
+            if (buffer.isEmpty() || buffer.peekLast().getId() < event.getId()) {
+                buffer.addLast(event);
+            } else {
+                List<OrderBoardEvent> tail = new ArrayList<>();
+                while (!buffer.isEmpty() && buffer.peekLast().getId() > event.getId()) {
+                    tail.add(0, buffer.pollLast());
+                }
+                buffer.addLast(event);
+                buffer.addAll(tail);
+            }
+            while (buffer.size() > capacity) {
+                buffer.pollFirst();
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.Spot.order.infrastructure.board;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.Spot.order.domain.entity.OrderEntity;
+import com.example.Spot.order.domain.enums.OrderStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 상태 전환을 매장 보드 채널로 발행한다.
+ * Temporal activity는 SSE 연결을 가진 인스턴스와 다른 곳에서 실행될 수 있으므로
+ * Redis pub/sub으로 모든 인스턴스의 OrderBoardHub에 전달한다.
+ *
+ * - order:board-seq:{storeId} → 매장별 이벤트 id 시퀀스 (인스턴스 간 Last-Event-ID 호환)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderBoardPublisher {
+
+    public static final String CHANNEL = "order:board";
+    private static final String SEQ_KEY_PREFIX = "order:board-seq:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 커밋된 상태만 보드에 노출되도록 트랜잭션 커밋 이후 발행
+    public void publish(OrderEntity order, OrderStatus previousStatus) {
+        if (order.getOrderStatus() == previousStatus) {
+            return;
+        }
+        OrderBoardEvent event = OrderBoardEvent.builder()
+                .storeId(order.getStoreId())
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .previousStatus(previousStatus)
+                .orderStatus(order.getOrderStatus())
+                .estimatedTime(order.getEstimatedTime())
+                .pickupTime(order.getPickupTime())
+                .occurredAt(LocalDateTime.now())
+                .build();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    // 보드는 best-effort: 발행 실패 시 클라이언트는 재연결 후 resync로 스냅샷을 다시 받는다
+    private void send(OrderBoardEvent event) {
+        try {
+            Long id = redisTemplate.opsForValue().increment(SEQ_KEY_PREFIX + event.getStoreId());
+            OrderBoardEvent sequenced = event.toBuilder().id(id != null ? id : 0L).build();
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(sequenced));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[주문 보드] 이벤트 발행 실패 - storeId: {}, orderId: {}, error: {}",
+                    event.getStoreId(), event.getOrderId(), e.getMessage());
+        }
+    }
+}
@@ -16,4 +16,6 @@ public class OrderCreatedEvent {
     private UUID orderId;
     private Integer userId;
     private Long amount;
+    // 주문이 생성된 시각 (epoch millis). 구독 측에서 outbox → Debezium → Kafka 전달 지연 측정에 사용
+    private Long createdAt;
 }
@@ -14,4 +14,7 @@ import lombok.NoArgsConstructor;
 public class OrderPendingEvent {
     private UUID storeId;
     private UUID orderId;
+    // 주문 생성 / 결제 완료(PENDING) 시각 (epoch millis)
+    private Long orderCreatedAt;
+    private Long pendingAt;
 }
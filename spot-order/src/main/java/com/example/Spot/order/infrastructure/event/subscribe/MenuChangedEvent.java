@@ -0,0 +1,23 @@
+package com.example.Spot.order.infrastructure.event.subscribe;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MenuChangedEvent {
+    private UUID storeId;
+    private UUID menuId;
+    private UUID menuOptionId;
+    private String changeType;
+    private Long version;
+}
@@ -10,4 +10,6 @@ import lombok.NoArgsConstructor;
 public class PaymentSucceededEvent {
     private UUID orderId;
     private Integer userId;
+    // 결제 서비스가 성공 이벤트를 outbox에 기록한 시각 (epoch millis). 이전 형식의 이벤트는 null
+    private Long succeededAt;
 }
@@ -0,0 +1,137 @@
+package com.example.Spot.order.infrastructure.guard;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
+import com.example.Spot.order.presentation.dto.request.OrderItemOptionRequestDto;
+import com.example.Spot.order.presentation.dto.response.OrderItemOptionResponseDto;
+import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 중복 주문 방지용 장바구니 fingerprint.
+ * (사용자, 가게, 픽업시간, 정렬된 메뉴/수량/옵션) 해시를 SET NX로 선점하고,
+ * 주문이 종료(완료/취소/거절/결제실패)되면 해제한다.
+ *
+ * - order:dup:{fingerprint} → orderId
+ * - order:dup-owner:{orderId} → fingerprint (해제 시 역조회용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderFingerprintGuard {
+
+    private static final String FINGERPRINT_KEY_PREFIX = "order:dup:";
+    private static final String OWNER_KEY_PREFIX = "order:dup-owner:";
+    // 픽업 이후에도 잠시 유지해 직후 재주문 중복을 막음
+    private static final Duration PICKUP_GRACE = Duration.ofHours(1);
+    private static final Duration MIN_TTL = Duration.ofMinutes(10);
+
+    // 1: 선점(또는 같은 주문 ID의 재선점), 0: 중복
+    // 주문 ID가 이미 다른 fingerprint를 가지고 있으면(같은 Idempotency-Key로 다른 장바구니) 덮어쓰지 않고 0
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local owned = redis.call('GET', KEYS[2])
+            if owned then
+                if owned == ARGV[2] and redis.call('GET', KEYS[1]) == ARGV[1] then
+                    return 1
+                end
+                return 0
+            end
+            if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[3]) then
+                redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    // 다른 주문이 이미 같은 fingerprint를 다시 선점한 경우를 지우지 않도록 값 비교 후 삭제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * @return 선점에 성공하면 true, 동일한 진행 중 주문이 있으면 false
+     */
+    public boolean claim(UUID orderId, Integer userId, UUID storeId, OrderCreateRequestDto requestDto) {
+        String fingerprint = fingerprint(userId, storeId, requestDto);
+        Duration ttl = ttlFor(requestDto.getPickupTime());
+
+        // Idempotency-Key 재시도는 같은 주문 ID로 들어오므로 자신이 선점한 fingerprint면 중복이 아님
+        Long claimed = redisTemplate.execute(CLAIM_SCRIPT,
+                List.of(FINGERPRINT_KEY_PREFIX + fingerprint, OWNER_KEY_PREFIX + orderId),
+                orderId.toString(), fingerprint, String.valueOf(ttl.toMillis()));
+        return Long.valueOf(1L).equals(claimed);
+    }
+
+    public void release(UUID orderId) {
+        try {
+            String fingerprint = redisTemplate.opsForValue().getAndDelete(OWNER_KEY_PREFIX + orderId);
+            if (fingerprint == null) {
+                return;
+            }
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(FINGERPRINT_KEY_PREFIX + fingerprint), orderId.toString());
+        } catch (Exception e) {
+            // 해제 실패 시에도 TTL로 자연 만료되므로 주문 흐름은 막지 않음
+            log.warn("[중복주문 fingerprint] 해제 실패 - OrderID: {}, error: {}", orderId, e.getMessage());
+        }
+    }
+
+    // 요청 장바구니의 fingerprint. 저장된 주문의 fingerprint(OrderResponseDto)와 같은 규칙으로 만들어 서로 비교할 수 있다
+    public static String fingerprint(Integer userId, UUID storeId, OrderCreateRequestDto requestDto) {
+        return hash(userId, storeId, requestDto.getPickupTime(), requestDto.getOrderItems().stream()
+                .map(item -> canonicalItem(item.getMenuId(), item.getQuantity(),
+                        item.getOptions().stream().map(OrderItemOptionRequestDto::getMenuOptionId))));
+    }
+
+    // 이미 저장된 주문의 fingerprint. Idempotency-Key 재시도가 처음 주문과 같은 장바구니인지 비교할 때 사용
+    public static String fingerprint(OrderResponseDto order) {
+        return hash(order.getUserId(), order.getStoreId(), order.getPickupTime(), order.getOrderItems().stream()
+                .map(item -> canonicalItem(item.getMenuId(), item.getQuantity(),
+                        item.getOptions().stream().map(OrderItemOptionResponseDto::getMenuOptionId))));
+    }
+
+    private static String hash(Integer userId, UUID storeId, LocalDateTime pickupTime, Stream<String> canonicalItems) {
+        String items = canonicalItems
+                .sorted()
+                .collect(Collectors.joining(";"));
+
+        String canonical = userId + "|" + storeId + "|" + pickupTime + "|" + items;
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static String canonicalItem(UUID menuId, Integer quantity, Stream<UUID> optionIds) {
+        String options = optionIds
+                .sorted()
+                .map(UUID::toString)
+                .collect(Collectors.joining(","));
+        return menuId + ":" + quantity + ":[" + options + "]";
+    }
+
+    private static Duration ttlFor(LocalDateTime pickupTime) {
+        Duration untilPickup = Duration.between(LocalDateTime.now(), pickupTime).plus(PICKUP_GRACE);
+        return untilPickup.compareTo(MIN_TTL) < 0 ? MIN_TTL : untilPickup;
+    }
+}
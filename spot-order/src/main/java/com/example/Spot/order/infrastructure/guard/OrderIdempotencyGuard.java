@@ -0,0 +1,141 @@
+package com.example.Spot.order.infrastructure.guard;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.order.domain.exception.IdempotencyKeyInProgressException;
+import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
+import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문 생성 Idempotency-Key. 같은 사용자가 같은 key로 다시 보낸 요청에는 처음 응답을 그대로 돌려준다.
+ * 처음 요청은 key를 "처리 중"으로 선점하고, 주문 워크플로우 시작 후 응답으로 덮어쓴다.
+ * 주문 ID(= 워크플로우 ID)도 key에서 결정적으로 만들기 때문에 Redis 값이 사라져도 재시도가 두 번째 워크플로우를
+ * 만들지 못한다 (REJECT_DUPLICATE 정책으로 종료된 워크플로우의 ID도 거부). 이때 응답은 DB의 기존 주문으로 만든다.
+ *
+ * - order:idem:{userId}:{key} → 처리 중 표시 또는 {fingerprint, 응답} JSON
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderIdempotencyGuard {
+
+    private static final String KEY_PREFIX = "order:idem:";
+    private static final String IN_PROGRESS = "IN_PROGRESS";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    // 값이 있으면 그대로 반환, 없으면 처리 중으로 선점하고 nil 반환
+    private static final RedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if current then
+                return current
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+            return nil
+            """, String.class);
+
+    // 처리 중 표시일 때만 삭제 (이미 저장된 응답은 지우지 않음)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 저장된 응답을 돌려주는 기간
+    @Value("${order.idempotency.ttl:24h}")
+    private Duration ttl;
+
+    // 처음 요청이 처리되는 동안 같은 key의 동시 요청을 막는 기간. 서버가 중간에 죽으면 이 시간 뒤 재시도 가능
+    @Value("${order.idempotency.in-progress-ttl:30s}")
+    private Duration inProgressTtl;
+
+    public static void validateKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+    }
+
+    // 같은 사용자 + key면 항상 같은 주문 ID (다른 사용자의 같은 key와는 겹치지 않음)
+    public static UUID orderIdFor(Integer userId, String idempotencyKey) {
+        return UUID.nameUUIDFromBytes((KEY_PREFIX + userId + ":" + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 처음 요청이면 empty (key 선점), 이미 처리된 요청이면 저장된 응답
+     * @throws IdempotencyKeyInProgressException 같은 key의 처음 요청이 아직 처리 중일 때
+     * @throws IllegalArgumentException 같은 key로 다른 장바구니/픽업 시간을 보냈을 때
+     */
+    public Optional<OrderResponseDto> claim(Integer userId, String idempotencyKey, OrderCreateRequestDto requestDto) {
+        String stored = redisTemplate.execute(CLAIM_SCRIPT, List.of(key(userId, idempotencyKey)),
+                IN_PROGRESS, String.valueOf(inProgressTtl.toMillis()));
+        if (stored == null) {
+            return Optional.empty();
+        }
+        if (IN_PROGRESS.equals(stored)) {
+            throw new IdempotencyKeyInProgressException();
+        }
+
+        StoredResponse response = read(stored);
+        if (!response.fingerprint().equals(fingerprint(userId, requestDto))) {
+            throw new IllegalArgumentException("같은 Idempotency-Key로 다른 주문을 요청할 수 없습니다.");
+        }
+        log.info("[Idempotency] 저장된 주문 응답 재사용 - userId: {}, orderId: {}", userId, response.response().getId());
+        return Optional.of(response.response());
+    }
+
+    // 저장에 실패해도 주문은 이미 시작되었으므로 예외를 던지지 않음 (재시도는 기존 주문 조회/워크플로우 ID 중복으로 걸러짐)
+    public void complete(Integer userId, String idempotencyKey, OrderCreateRequestDto requestDto, OrderResponseDto response) {
+        try {
+            String value = objectMapper.writeValueAsString(new StoredResponse(fingerprint(userId, requestDto), response));
+            redisTemplate.opsForValue().set(key(userId, idempotencyKey), value, ttl);
+        } catch (Exception e) {
+            log.warn("[Idempotency] 응답 저장 실패 - userId: {}, orderId: {}, error: {}",
+                    userId, response.getId(), e.getMessage());
+        }
+    }
+
+    // 주문 생성이 실패하면 같은 key로 다시 시도할 수 있도록 선점 해제
+    public void release(Integer userId, String idempotencyKey) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key(userId, idempotencyKey)), IN_PROGRESS);
+        } catch (Exception e) {
+            // 해제 실패 시에도 in-progress-ttl 뒤 자연 만료
+            log.warn("[Idempotency] 선점 해제 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+
+    private StoredResponse read(String stored) {
+        try {
+            return objectMapper.readValue(stored, StoredResponse.class);
+        } catch (IOException e) {
+            throw new IllegalStateException("저장된 주문 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    // 가게는 요청 본문의 storeId 기준 (검증 전이므로 Feign 조회 결과를 쓰지 않음)
+    private static String fingerprint(Integer userId, OrderCreateRequestDto requestDto) {
+        return OrderFingerprintGuard.fingerprint(userId, requestDto.getStoreId(), requestDto);
+    }
+
+    private static String key(Integer userId, String idempotencyKey) {
+        return KEY_PREFIX + userId + ":" + idempotencyKey;
+    }
+
+    private record StoredResponse(String fingerprint, OrderResponseDto response) {
+    }
+}
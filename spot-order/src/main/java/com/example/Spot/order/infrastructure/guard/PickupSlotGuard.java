@@ -0,0 +1,145 @@
+package com.example.Spot.order.infrastructure.guard;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가게별 픽업 시간대 수용량 예약.
+ * 픽업 시간을 slot-minutes 단위 시간대로 나누고, 시간대별 카운터를 Lua 스크립트 한 번으로 (확인 + 증가) 처리한다.
+ * p_order를 조회하거나 잠그지 않으므로 예약 비용은 주문 수와 관계없이 O(1)이다.
+ * 주문이 취소/거절/결제실패로 끝나면 예약을 되돌린다.
+ *
+ * - order:slot:{storeId}:{yyyyMMddHHmm} → 예약 수
+ * - order:slot-owner:{orderId} → 시간대 key (해제 시 역조회용)
+ * - order:slot-capacity (hash) storeId → 가게별 수용량 (없으면 capacity 기본값)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PickupSlotGuard {
+
+    private static final String SLOT_KEY_PREFIX = "order:slot:";
+    private static final String OWNER_KEY_PREFIX = "order:slot-owner:";
+    private static final String CAPACITY_KEY = "order:slot-capacity";
+    private static final DateTimeFormatter SLOT_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+    // 시간대가 지난 뒤에도 잠시 유지해 늦게 도착한 해제가 새 카운터를 만들지 않도록 함
+    private static final Duration SLOT_GRACE = Duration.ofHours(1);
+    private static final Duration MIN_TTL = Duration.ofMinutes(10);
+
+    // KEYS: 시간대, owner, 수용량 hash / ARGV: storeId, 기본 수용량, TTL(ms)
+    // 같은 주문 ID로 이미 예약했으면 (Idempotency-Key 재시도) 다시 세지 않음
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                return 1
+            end
+            local capacity = tonumber(redis.call('HGET', KEYS[3], ARGV[1]) or ARGV[2])
+            local used = tonumber(redis.call('GET', KEYS[1]) or '0')
+            if used >= capacity then
+                return 0
+            end
+            redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            redis.call('SET', KEYS[2], KEYS[1], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    // 카운터가 TTL로 이미 사라졌거나 0이면 음수로 내려가지 않도록 그대로 둠
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if tonumber(redis.call('GET', KEYS[1]) or '0') > 0 then
+                return redis.call('DECR', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${order.pickup-slot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${order.pickup-slot.slot-minutes:15}")
+    private int slotMinutes;
+
+    @Value("${order.pickup-slot.capacity:20}")
+    private int defaultCapacity;
+
+    // 시간대가 찼을 때 다음 빈 시간대를 찾아보는 최대 시간대 수
+    @Value("${order.pickup-slot.lookahead:8}")
+    private int lookahead;
+
+    /**
+     * @return 예약에 성공하면 true, 해당 시간대 수용량이 찼으면 false
+     */
+    public boolean reserve(UUID orderId, UUID storeId, LocalDateTime pickupTime) {
+        if (!enabled) {
+            return true;
+        }
+        LocalDateTime slot = slotOf(pickupTime, slotMinutes);
+        Long reserved = redisTemplate.execute(RESERVE_SCRIPT,
+                List.of(slotKey(storeId, slot), OWNER_KEY_PREFIX + orderId, CAPACITY_KEY),
+                storeId.toString(), String.valueOf(defaultCapacity), String.valueOf(ttlFor(slot).toMillis()));
+        return reserved != null && reserved == 1L;
+    }
+
+    /**
+     * 요청한 시간대 이후 lookahead개 시간대 중 처음으로 자리가 있는 시간대의 시작 시각. 없으면 null
+     */
+    public LocalDateTime nextAvailableSlot(UUID storeId, LocalDateTime pickupTime) {
+        LocalDateTime slot = slotOf(pickupTime, slotMinutes);
+        List<String> keys = new ArrayList<>(lookahead);
+        for (int i = 1; i <= lookahead; i++) {
+            keys.add(slotKey(storeId, slot.plusMinutes((long) slotMinutes * i)));
+        }
+
+        Object override = redisTemplate.opsForHash().get(CAPACITY_KEY, storeId.toString());
+        int capacity = override != null ? Integer.parseInt(override.toString()) : defaultCapacity;
+        List<String> counts = redisTemplate.opsForValue().multiGet(keys);
+        for (int i = 0; i < keys.size(); i++) {
+            String count = counts != null ? counts.get(i) : null;
+            if (count == null || Integer.parseInt(count) < capacity) {
+                return slot.plusMinutes((long) slotMinutes * (i + 1));
+            }
+        }
+        return null;
+    }
+
+    public void release(UUID orderId) {
+        try {
+            String slotKey = redisTemplate.opsForValue().getAndDelete(OWNER_KEY_PREFIX + orderId);
+            if (slotKey == null) {
+                return;
+            }
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(slotKey));
+        } catch (Exception e) {
+            // 해제 실패 시에도 시간대가 지나면 TTL로 만료되므로 주문 흐름은 막지 않음
+            log.warn("[픽업 시간대] 예약 해제 실패 - OrderID: {}, error: {}", orderId, e.getMessage());
+        }
+    }
+
+    static LocalDateTime slotOf(LocalDateTime pickupTime, int slotMinutes) {
+        LocalDateTime minute = pickupTime.truncatedTo(ChronoUnit.MINUTES);
+        return minute.minusMinutes(minute.getMinute() % slotMinutes);
+    }
+
+    private static String slotKey(UUID storeId, LocalDateTime slot) {
+        return SLOT_KEY_PREFIX + storeId + ":" + slot.format(SLOT_FORMAT);
+    }
+
+    private Duration ttlFor(LocalDateTime slot) {
+        Duration untilSlotEnd = Duration.between(LocalDateTime.now(), slot.plusMinutes(slotMinutes)).plus(SLOT_GRACE);
+        return untilSlotEnd.compareTo(MIN_TTL) < 0 ? MIN_TTL : untilSlotEnd;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.Spot.order.infrastructure.listener;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.global.infrastructure.config.cache.NearCacheConfig;
+import com.example.Spot.order.infrastructure.event.subscribe.MenuChangedEvent;
+import com.example.Spot.order.infrastructure.event.subscribe.StoreChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * spot-store의 가게/메뉴 변경 이벤트를 받아 near cache(L1 + Redis)를 무효화한다.
+ * L1은 인스턴스 로컬이므로 모든 인스턴스가 이벤트를 받아야 한다 → 인스턴스마다 고유 group-id로 구독(브로드캐스트).
+ * suffix는 재기동해도 바뀌지 않는 인스턴스 ID(order.instance-id, 기본 pod 이름/호스트명)라 group이 재기동마다 쌓이지 않는다.
+ * 기동 이전 이벤트는 L1이 비어 있으므로 의미가 없어 latest부터 읽는다.
+ */
+@Slf4j
+@Component
+public class CatalogInvalidationListener {
+
+    private final CacheManager nearCacheManager;
+    private final ObjectMapper objectMapper;
+
+    public CatalogInvalidationListener(@Qualifier(NearCacheConfig.NEAR_CACHE_MANAGER) CacheManager nearCacheManager,
+                                       ObjectMapper objectMapper) {
+        this.nearCacheManager = nearCacheManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @KafkaListener(
+            topics = "${spring.kafka.topic.store.changed}",
+            groupId = "${spring.kafka.consumer.group.catalog-invalidation}-${order.instance-id}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void handleStoreChanged(String message, Acknowledgment ack) {
+        try {
+            StoreChangedEvent event = objectMapper.readValue(message, StoreChangedEvent.class);
+            evict(NearCacheConfig.STORE, event.getStoreId());
+            if (event.getUserIds() != null) {
+                event.getUserIds().forEach(userId -> evict(NearCacheConfig.STORE_USER, userId));
+            }
+            log.debug("[캐시-무효화] 가게 변경 반영: StoreID {}, type {}, version {}",
+                    event.getStoreId(), event.getChangeType(), event.getVersion());
+        } catch (JsonProcessingException e) {
+            log.error("[캐시-무효화] 가게 변경 메시지 파싱 에러: {}", message);
+        } finally {
+            // 무효화는 멱등이고 재처리해도 얻을 것이 없으므로 실패해도 커밋
+            ack.acknowledge();
+        }
+    }
+
+    @KafkaListener(
+            topics = "${spring.kafka.topic.menu.changed}",
+            groupId = "${spring.kafka.consumer.group.catalog-invalidation}-${order.instance-id}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void handleMenuChanged(String message, Acknowledgment ack) {
+        try {
+            MenuChangedEvent event = objectMapper.readValue(message, MenuChangedEvent.class);
+            if (event.getMenuOptionId() != null) {
+                evict(NearCacheConfig.MENU_OPTION, event.getMenuOptionId());
+            } else {
+                evict(NearCacheConfig.MENU, event.getMenuId());
+            }
+            log.debug("[캐시-무효화] 메뉴 변경 반영: MenuID {}, OptionID {}, type {}, version {}",
+                    event.getMenuId(), event.getMenuOptionId(), event.getChangeType(), event.getVersion());
+        } catch (JsonProcessingException e) {
+            log.error("[캐시-무효화] 메뉴 변경 메시지 파싱 에러: {}", message);
+        } finally {
+            ack.acknowledge();
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        if (key == null) {
+            return;
+        }
+        Cache cache = nearCacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+}
@@ -1,70 +1,83 @@
 package com.example.Spot.order.infrastructure.listener;
 
+import java.io.IOException;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import com.example.Spot.global.infrastructure.codec.EventPayloadCodecs;
+import com.example.Spot.global.infrastructure.kafka.OrderRetryableTopic;
+import com.example.Spot.global.infrastructure.kafka.RetryableRecordHandler;
 import com.example.Spot.order.infrastructure.event.publish.OrderAcceptedEvent;
 import com.example.Spot.order.infrastructure.event.publish.OrderPendingEvent;
 import com.example.Spot.order.infrastructure.event.subscribe.AuthRequiredEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 알림 이벤트 수신. 그룹(고객/사장/요리사)마다 retry/DLT 토픽 접미사를 달리 해 같은 토픽을 구독하는 그룹끼리 재시도가 섞이지 않게 한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationListener {
 
-    private final ObjectMapper objectMapper;
+    private final RetryableRecordHandler recordHandler;
 
     // 1. 유저 결제 수단 필요 알림
-    @KafkaListener(topics = "${spring.kafka.topic.payment-auth.required}", groupId = "${spring.kafka.consumer.group.customer}")
-    public void handleAuthRequired(String message, Acknowledgment ack) {
-        parseEvent(message, AuthRequiredEvent.class, ack, event ->
+    @OrderRetryableTopic(retryTopicSuffix = "-customer-retry", dltTopicSuffix = "-customer-dlt")
+    @KafkaListener(topics = "${spring.kafka.topic.payment-auth.required}", groupId = "${spring.kafka.consumer.group.customer}",
+            concurrency = "${order.kafka.listener.concurrency.notification:2}",
+            properties = EventPayloadCodecs.BYTES_VALUE_DESERIALIZER)
+    public void handleAuthRequired(ConsumerRecord<String, byte[]> record, Acknowledgment ack) throws IOException {
+        recordHandler.handle("auth-required", record, ack, AuthRequiredEvent.class, event ->
                 log.info("[고객알림] 유저 {}: 결제 수단이 없어 주문이 대기 중입니다. 사유: {}",
                         event.getUserId(), event.getMessage())
         );
     }
 
     // 2. 사장님 새 주문 알림
-    @KafkaListener(topics = "${spring.kafka.topic.order.pending}", groupId = "${spring.kafka.consumer.group.owner}")
-    public void handleOrderPending(String message, Acknowledgment ack) {
-        parseEvent(message, OrderPendingEvent.class, ack, event ->
+    @OrderRetryableTopic(retryTopicSuffix = "-owner-retry", dltTopicSuffix = "-owner-dlt")
+    @KafkaListener(topics = "${spring.kafka.topic.order.pending}", groupId = "${spring.kafka.consumer.group.owner}",
+            concurrency = "${order.kafka.listener.concurrency.notification:2}",
+            properties = EventPayloadCodecs.BYTES_VALUE_DESERIALIZER)
+    public void handleOrderPending(ConsumerRecord<String, byte[]> record, Acknowledgment ack) throws IOException {
+        recordHandler.handle("order-pending-owner", record, ack, OrderPendingEvent.class, event ->
                 log.info("[사장알림] 가게 ID {}: 새 주문이 들어왔습니다! (주문 ID: {})",
                         event.getStoreId(), event.getOrderId())
         );
     }
 
     // 3. 주문 수락 - 고객용
-    @KafkaListener(topics = "${spring.kafka.topic.order.accepted}", groupId = "${spring.kafka.consumer.group.customer}")
-    public void handleAcceptedCustomer(String message, Acknowledgment ack) {
-        parseEvent(message, OrderAcceptedEvent.class, ack, event ->
+    @OrderRetryableTopic(retryTopicSuffix = "-customer-retry", dltTopicSuffix = "-customer-dlt")
+    @KafkaListener(topics = "${spring.kafka.topic.order.accepted}", groupId = "${spring.kafka.consumer.group.customer}",
+            concurrency = "${order.kafka.listener.concurrency.notification:2}",
+            properties = EventPayloadCodecs.BYTES_VALUE_DESERIALIZER)
+    public void handleAcceptedCustomer(ConsumerRecord<String, byte[]> record, Acknowledgment ack) throws IOException {
+        recordHandler.handle("order-accepted-customer", record, ack, OrderAcceptedEvent.class, event ->
                 log.info("[고객알림] 유저 {}: 주문이 수락되었습니다. {}분 뒤 도착 예정!",
                         event.getUserId(), event.getEstimatedTime())
         );
     }
 
     // 4. 주문 수락 - 요리사용
-    @KafkaListener(topics = "${spring.kafka.topic.order.accepted}", groupId = "${spring.kafka.consumer.group.chef}")
-    public void handleAcceptedChef(String message, Acknowledgment ack) {
-        parseEvent(message, OrderAcceptedEvent.class, ack, event ->
+    @OrderRetryableTopic(retryTopicSuffix = "-chef-retry", dltTopicSuffix = "-chef-dlt")
+    @KafkaListener(topics = "${spring.kafka.topic.order.accepted}", groupId = "${spring.kafka.consumer.group.chef}",
+            concurrency = "${order.kafka.listener.concurrency.notification:2}",
+            properties = EventPayloadCodecs.BYTES_VALUE_DESERIALIZER)
+    public void handleAcceptedChef(ConsumerRecord<String, byte[]> record, Acknowledgment ack) throws IOException {
+        recordHandler.handle("order-accepted-chef", record, ack, OrderAcceptedEvent.class, event ->
                 log.info("[주방알림] 주문번호 {}: 조리 시작! (예상시간: {}분)",
                         event.getOrderId(), event.getEstimatedTime())
         );
     }
 
-    // 공통 파싱 및 로직 실행 메서드
-    private <T> void parseEvent(String message, Class<T> clazz, Acknowledgment ack, java.util.function.Consumer<T> handler) {
-        try {
-            T event = objectMapper.readValue(message, clazz);
-            handler.accept(event);
-            ack.acknowledge();
-            
-        } catch (Exception e) {
-            log.error("[{}] 알림 파싱/처리 에러: {}", clazz.getSimpleName(), e.getMessage());
-            // 필요 시 여기서 예외를 다시 던져서 Kafka Retry 유도 가능
-        }
+    @DltHandler
+    public void handleDlt(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        recordHandler.deadLettered(record, ack);
     }
 }
@@ -1,54 +1,110 @@
 package com.example.Spot.order.infrastructure.listener;
 
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import com.example.Spot.global.infrastructure.codec.EventPayloadCodecs;
+import com.example.Spot.global.infrastructure.config.kafka.KafkaBatchListenerConfig;
+import com.example.Spot.global.infrastructure.config.kafka.KafkaRetryConfig;
+import com.example.Spot.global.infrastructure.kafka.KeyOrderedBatchProcessor;
+import com.example.Spot.global.infrastructure.kafka.OrderRetryableTopic;
+import com.example.Spot.global.infrastructure.kafka.RetryableRecordHandler;
 import com.example.Spot.order.application.service.OrderService;
 import com.example.Spot.order.infrastructure.event.subscribe.PaymentRefundedEvent;
 import com.example.Spot.order.infrastructure.event.subscribe.PaymentSucceededEvent;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.Spot.order.infrastructure.metrics.OrderStage;
+import com.example.Spot.order.infrastructure.metrics.OrderStageTimer;
 
-import io.temporal.client.WorkflowClient;
+import io.temporal.client.WorkflowNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 결제 결과 이벤트 수신. 레코드마다 Temporal 시그널 RPC가 한 번씩 필요하므로
+ * poll 단위로 받아 배치 안에서 주문별 순서를 지키면서 동시에 처리한다 ({@link KeyOrderedBatchProcessor}).
+ * 배치에서 실패한 레코드는 {원본 토픽}-order 진입 토픽으로 넘어가고, 거기서부터는
+ * {@link OrderRetryableTopic} 레코드 리스너가 지수 backoff retry 토픽과 DLT로 처리한다.
+ * retry 경로로 넘어간 주문은 이후 레코드와 순서가 뒤바뀔 수 있다. 워크플로우는 종료 상태 이후에 도착한 시그널을 무시한다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderEventListener {
     
     private final OrderService orderService;
-    private final ObjectMapper objectMapper;
-    private final WorkflowClient workflowClient;
+    private final KeyOrderedBatchProcessor batchProcessor;
+    private final RetryableRecordHandler recordHandler;
+    private final OrderStageTimer orderStageTimer;
+
+    @Value("${spring.kafka.topic.payment.succeeded}" + KafkaRetryConfig.ORDER_RETRY_ENTRY_SUFFIX)
+    private String paymentSucceededRetryTopic;
+
+    @Value("${spring.kafka.topic.payment.refunded}" + KafkaRetryConfig.ORDER_RETRY_ENTRY_SUFFIX)
+    private String paymentRefundedRetryTopic;
     
-    @KafkaListener(topics = "${spring.kafka.topic.payment.succeeded}", groupId = "${spring.kafka.consumer.group.order}")
-    public void handlePaymentSucceeded(String message, Acknowledgment ack) {
-        try {
-            PaymentSucceededEvent event = objectMapper.readValue(message, PaymentSucceededEvent.class);
-            orderService.completePayment(event.getOrderId());
-            ack.acknowledge(); 
-            log.info("[주문-결제성공] 메시지 처리 완료: OrderID {}", event.getOrderId());
-        } catch (JsonProcessingException e) {
-            log.error("[주문-결제성공] 메시지 파싱 에러 - 데이터를 확인할 수 없음: {}", message);
-        } catch (Exception e) {
-            log.error("[주문-결제성공] 이벤트 처리 중 에러 발생: {}", e.getMessage(), e);
-        }
+    @KafkaListener(topics = "${spring.kafka.topic.payment.succeeded}", groupId = "${spring.kafka.consumer.group.order}",
+            containerFactory = KafkaBatchListenerConfig.BATCH_LISTENER_FACTORY,
+            concurrency = "${order.kafka.listener.concurrency.payment-result:4}",
+            properties = EventPayloadCodecs.BYTES_VALUE_DESERIALIZER)
+    public void handlePaymentSucceeded(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack, Consumer<?, ?> consumer) {
+        batchProcessor.process("payment-succeeded", records, ack, consumer,
+                PaymentSucceededEvent.class, PaymentSucceededEvent::getOrderId, this::completePayment,
+                paymentSucceededRetryTopic);
     }
     
-    @KafkaListener(topics = "${spring.kafka.topic.payment.refunded}", groupId = "${spring.kafka.consumer.group.order}")
-    public void handlePaymentRefunded(String message, Acknowledgment ack) {
+    @KafkaListener(topics = "${spring.kafka.topic.payment.refunded}", groupId = "${spring.kafka.consumer.group.order}",
+            containerFactory = KafkaBatchListenerConfig.BATCH_LISTENER_FACTORY,
+            concurrency = "${order.kafka.listener.concurrency.payment-result:4}",
+            properties = EventPayloadCodecs.BYTES_VALUE_DESERIALIZER)
+    public void handlePaymentRefunded(List<ConsumerRecord<String, byte[]>> records, Acknowledgment ack, Consumer<?, ?> consumer) {
+        batchProcessor.process("payment-refunded", records, ack, consumer,
+                PaymentRefundedEvent.class, PaymentRefundedEvent::getOrderId, this::completeRefund,
+                paymentRefundedRetryTopic);
+    }
+
+    @OrderRetryableTopic
+    @KafkaListener(topics = "${spring.kafka.topic.payment.succeeded}" + KafkaRetryConfig.ORDER_RETRY_ENTRY_SUFFIX,
+            groupId = "${spring.kafka.consumer.group.order}-retry",
+            properties = EventPayloadCodecs.BYTES_VALUE_DESERIALIZER)
+    public void retryPaymentSucceeded(ConsumerRecord<String, byte[]> record, Acknowledgment ack) throws IOException {
+        recordHandler.handle("payment-succeeded", record, ack, PaymentSucceededEvent.class, this::completePayment);
+    }
+
+    @OrderRetryableTopic
+    @KafkaListener(topics = "${spring.kafka.topic.payment.refunded}" + KafkaRetryConfig.ORDER_RETRY_ENTRY_SUFFIX,
+            groupId = "${spring.kafka.consumer.group.order}-retry",
+            properties = EventPayloadCodecs.BYTES_VALUE_DESERIALIZER)
+    public void retryPaymentRefunded(ConsumerRecord<String, byte[]> record, Acknowledgment ack) throws IOException {
+        recordHandler.handle("payment-refunded", record, ack, PaymentRefundedEvent.class, this::completeRefund);
+    }
+
+    @DltHandler
+    public void handleDlt(ConsumerRecord<String, byte[]> record, Acknowledgment ack) {
+        recordHandler.deadLettered(record, ack);
+    }
+
+    private void completePayment(PaymentSucceededEvent event) {
+        orderStageTimer.recordSince(OrderStage.PAYMENT_SUCCEEDED_RELAY, event.getSucceededAt());
+        orderService.completePayment(event.getOrderId());
+        log.info("[주문-결제성공] 메시지 처리 완료: OrderID {}", event.getOrderId());
+    }
+
+    private void completeRefund(PaymentRefundedEvent event) {
+        log.info(" [주문-결제환불] 이벤트를 수신했습니다. OrderID: {}", event.getOrderId());
         try {
-            PaymentRefundedEvent event = objectMapper.readValue(message, PaymentRefundedEvent.class);
-            log.info(" [주문-결제환불] 이벤트를 수신했습니다. OrderID: {}", event.getOrderId());
-            
             orderService.completeOrderCancellation(event.getOrderId());
-
-            ack.acknowledge(); // 성공 시 커밋
-            log.info("[주문-결제환불] 처리 완료 및 Ack 커밋: OrderID {}", event.getOrderId());
-        } catch (Exception e) {
-            log.error("[주문-결제환불] 메시지 소비 중 오류 발생: {}", e.getMessage());
+            log.info("[주문-결제환불] 처리 완료: OrderID {}", event.getOrderId());
+        } catch (WorkflowNotFoundException e) {
+            // 재전달해도 결과가 같으므로 처리된 것으로 본다
+            log.warn("[주문-결제환불] 이미 종료된 워크플로우입니다. OrderID {}", event.getOrderId());
         }
     }
 }
@@ -0,0 +1,34 @@
+package com.example.Spot.order.infrastructure.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 생성 → PENDING 구간을 나눈 단계. order.stage 타이머의 stage 태그 값.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum OrderStage {
+
+    // API 요청 스레드 (OrderAspect, OrderServiceImpl.createOrder)
+    STORE_VALIDATION("store-validation"),
+    DUPLICATE_CHECK("duplicate-check"),
+    PICKUP_SLOT("pickup-slot"),
+    WORKFLOW_START("workflow-start"),
+
+    // createOrderInDb Activity
+    ORDER_INSERT("order-insert"),
+    // 이벤트 생성 + payload 인코딩 + persist 등록. 아웃박스 INSERT SQL은 flush 때 실행되므로 ORDER_INSERT에 포함됨
+    OUTBOX_ENCODE("outbox-encode"),
+
+    // OrderWorkflow (워크플로우 interceptor)
+    PAYMENT_WORKFLOW("payment-workflow"),
+    PAYMENT_CANCEL_WORKFLOW("payment-cancel-workflow"),
+    // 결제 워크플로우 시작 → PENDING 시그널 수신
+    PENDING_SIGNAL("pending-signal"),
+
+    // 결제 서비스 outbox 기록(이벤트 timestamp) → Debezium → order 리스너 수신
+    PAYMENT_SUCCEEDED_RELAY("payment-succeeded-relay");
+
+    private final String tag;
+}
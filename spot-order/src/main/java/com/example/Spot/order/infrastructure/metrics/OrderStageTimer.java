@@ -0,0 +1,91 @@
+package com.example.Spot.order.infrastructure.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 생명주기 단계별 지연 시간 기록. 모든 타이머는 percentile histogram을 내보내므로
+ * Prometheus에서 histogram_quantile로 단계별 p95/p99를 합산해 볼 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderStageTimer {
+
+    // 결제 대기(Workflow.await 최대 5분)를 포함하는 구간은 기본 histogram 범위(30초)를 넘으므로 따로 지정
+    private static final Duration LIFECYCLE_MAX_EXPECTED = Duration.ofMinutes(5);
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T record(OrderStage stage, Supplier<T> task) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = task.get();
+            success = true;
+            return result;
+        } finally {
+            record(stage, System.nanoTime() - start, success);
+        }
+    }
+
+    public void record(OrderStage stage, Runnable task) {
+        record(stage, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public void record(OrderStage stage, long elapsedNanos, boolean success) {
+        Timer.builder("order.stage")
+                .tag("stage", stage.getTag())
+                .tag("outcome", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(LIFECYCLE_MAX_EXPECTED)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // 이벤트에 담긴 발생 시각(epoch millis)부터 지금까지. 서비스 간 시계 차이로 음수가 나오면 0으로 기록
+    public void recordSince(OrderStage stage, Long occurredAtMillis) {
+        if (occurredAtMillis == null) {
+            return;
+        }
+        long elapsedMillis = Math.max(0, System.currentTimeMillis() - occurredAtMillis);
+        record(stage, TimeUnit.MILLISECONDS.toNanos(elapsedMillis), true);
+    }
+
+    // Temporal Activity 실행 시간 (재시도마다 한 번씩)
+    public void recordActivity(String activityType, long elapsedNanos, boolean success) {
+        Timer.builder("order.activity")
+                .tag("activity", activityType)
+                .tag("outcome", success ? "success" : "failure")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    // Activity가 스케줄된 뒤 worker가 가져가기까지 걸린 시간 (task queue 대기 = worker 포화 지표)
+    public void recordActivityQueued(String activityType, long queuedMillis) {
+        Timer.builder("order.activity.schedule-to-start")
+                .tag("activity", activityType)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(Math.max(0, queuedMillis), TimeUnit.MILLISECONDS);
+    }
+
+    // 주문 생성 → PENDING 전체 구간. OrderPendingEvent에 담긴 두 시각으로 계산
+    public void recordCreatedToPending(long orderCreatedAtMillis, long pendingAtMillis) {
+        Timer.builder("order.lifecycle.created-to-pending")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(LIFECYCLE_MAX_EXPECTED)
+                .register(meterRegistry)
+                .record(Math.max(0, pendingAtMillis - orderCreatedAtMillis), TimeUnit.MILLISECONDS);
+    }
+}
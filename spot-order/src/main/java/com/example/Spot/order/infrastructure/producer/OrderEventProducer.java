@@ -1,19 +1,21 @@
 package com.example.Spot.order.infrastructure.producer;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import com.example.Spot.global.infrastructure.codec.EventPayloadCodecs;
 import com.example.Spot.order.domain.entity.OrderOutboxEntity;
 import com.example.Spot.order.domain.repository.OrderOutboxRepository;
 import com.example.Spot.order.infrastructure.event.publish.OrderAcceptedEvent;
 import com.example.Spot.order.infrastructure.event.publish.OrderCancelledEvent;
 import com.example.Spot.order.infrastructure.event.publish.OrderCreatedEvent;
 import com.example.Spot.order.infrastructure.event.publish.OrderPendingEvent;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,7 +27,7 @@ public class OrderEventProducer {
     
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final OrderOutboxRepository outboxRepository;
-    private final ObjectMapper objectMapper;
+    private final EventPayloadCodecs eventPayloadCodecs;
     
     @Value("${spring.kafka.topic.order.created}")
     private String orderCreatedTopic;
@@ -41,16 +43,20 @@ public class OrderEventProducer {
                 .orderId(orderId)
                 .userId(userId)
                 .amount(amount)
+                .createdAt(System.currentTimeMillis())
                 .build();
         saveOutbox(orderCreatedTopic, orderId, event);
     }
 
-    public void reserveOrderPending(UUID storeId, UUID orderId) {
+    public OrderPendingEvent reserveOrderPending(UUID storeId, UUID orderId, LocalDateTime orderCreatedAt) {
         OrderPendingEvent event = OrderPendingEvent.builder()
                 .storeId(storeId)
                 .orderId(orderId)
+                .orderCreatedAt(orderCreatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .pendingAt(System.currentTimeMillis())
                 .build();
         saveOutbox(orderPendingTopic, orderId, event);
+        return event;
     }
     
     public void reserveOrderAccepted(Integer userId, UUID orderId, Integer estimatedTime) {
@@ -72,7 +78,8 @@ public class OrderEventProducer {
     
     public void saveOutbox(String topic, UUID aggregateId, Object event) {
         try {
-            String payload = objectMapper.writeValueAsString(event);
+            // 토픽별 설정에 따라 JSON 또는 Smile. Debezium은 bytea 컬럼을 그대로 Kafka value로 보낸다
+            byte[] payload = eventPayloadCodecs.encode(topic, event);
             
             OrderOutboxEntity outbox = OrderOutboxEntity.builder()
                     .aggregateType("ORDER")
@@ -83,7 +90,7 @@ public class OrderEventProducer {
             
             outboxRepository.save(outbox);
             log.info("[Outbox 저장 성공] topic:{}, AggregateId:{}", topic, aggregateId);
-        } catch (JsonProcessingException e) {
+        } catch (IOException e) {
             log.error("[Outbox 저장 실패] AggregateId={}, error={}", aggregateId, e.getMessage());
             throw new RuntimeException("이벤트 발행 예약 중 오류 발생", e);
         }
@@ -0,0 +1,65 @@
+package com.example.Spot.order.infrastructure.sequence;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.order.domain.repository.OrderRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주문번호(ORDER-yyyyMMdd-NNNN) 발급기.
+ * 일자별 Redis 카운터를 INCR 하므로 DB 정렬 조회나 워커 간 경합 없이 번호가 유일하게 발급된다.
+ * 9999건을 넘으면 자릿수가 늘어난다 (ORDER-yyyyMMdd-10000).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderNumberAllocator {
+
+    private static final String KEY_PREFIX = "order:number-seq:";
+    private static final String ORDER_NUMBER_PREFIX = "ORDER-";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    // 자정 직후 전날 키로 발급 중인 요청이 있을 수 있으므로 하루 여유를 둠
+    private static final Duration KEY_TTL = Duration.ofDays(2);
+
+    private final StringRedisTemplate redisTemplate;
+    private final OrderRepository orderRepository;
+
+    public String nextOrderNumber() {
+        String date = LocalDate.now().format(DATE_FORMAT);
+        String key = KEY_PREFIX + date;
+
+        Long sequence = redisTemplate.opsForValue().increment(key);
+        if (sequence == null) {
+            throw new IllegalStateException("주문번호 발급에 실패했습니다.");
+        }
+
+        if (sequence == 1L) {
+            redisTemplate.expire(key, KEY_TTL);
+            sequence = seedFromDatabase(key, date, sequence);
+        }
+
+        return String.format(ORDER_NUMBER_PREFIX + "%s-%04d", date, sequence);
+    }
+
+    // 그날 처음 발급될 때만 호출됨. Redis 키가 유실(재시작/flush)된 경우 DB에 이미 발급된 번호 뒤부터 이어서 발급한다.
+    private Long seedFromDatabase(String key, String date, Long sequence) {
+        Optional<Integer> maxSequence = orderRepository
+                .findMaxOrderSequenceByDatePattern(ORDER_NUMBER_PREFIX + date + "-%");
+
+        if (maxSequence.isEmpty() || maxSequence.get() < 1) {
+            return sequence;
+        }
+
+        log.warn("[주문번호] {} 카운터가 초기화되어 DB 기준으로 복구합니다. 마지막 번호: {}", date, maxSequence.get());
+        Long reseeded = redisTemplate.opsForValue().increment(key, maxSequence.get());
+        return reseeded != null ? reseeded : sequence + maxSequence.get();
+    }
+}
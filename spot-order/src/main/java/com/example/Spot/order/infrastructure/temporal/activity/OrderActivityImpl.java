@@ -1,24 +1,33 @@
 package com.example.Spot.order.infrastructure.temporal.activity;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.Spot.global.feign.dto.MenuOptionResponse;
 import com.example.Spot.global.feign.dto.MenuResponse;
+import com.example.Spot.order.application.service.OrderStatsProjector;
 import com.example.Spot.order.domain.entity.OrderEntity;
 import com.example.Spot.order.domain.entity.OrderItemEntity;
 import com.example.Spot.order.domain.entity.OrderItemOptionEntity;
 import com.example.Spot.order.domain.enums.CancelledBy;
 import com.example.Spot.order.domain.enums.OrderStatus;
 import com.example.Spot.order.domain.repository.OrderRepository;
+import com.example.Spot.order.infrastructure.board.OrderBoardPublisher;
+import com.example.Spot.order.infrastructure.event.publish.OrderPendingEvent;
+import com.example.Spot.order.infrastructure.guard.OrderFingerprintGuard;
+import com.example.Spot.order.infrastructure.guard.PickupSlotGuard;
+import com.example.Spot.order.infrastructure.metrics.OrderStage;
+import com.example.Spot.order.infrastructure.metrics.OrderStageTimer;
 import com.example.Spot.order.infrastructure.producer.OrderEventProducer;
+import com.example.Spot.order.infrastructure.sequence.OrderNumberAllocator;
 import com.example.Spot.order.infrastructure.temporal.config.OrderConstants;
 import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
 import com.example.Spot.order.presentation.dto.request.OrderItemOptionRequestDto;
@@ -37,15 +46,35 @@ public class OrderActivityImpl implements OrderActivity {
     
     private final OrderRepository orderRepository;
     private final OrderEventProducer orderEventProducer;
+    private final OrderNumberAllocator orderNumberAllocator;
+    private final OrderFingerprintGuard orderFingerprintGuard;
+    private final PickupSlotGuard pickupSlotGuard;
+    private final OrderStatsProjector orderStatsProjector;
+    private final OrderBoardPublisher orderBoardPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderStageTimer orderStageTimer;
 
+    // 사전 existsById 조회 없이 바로 INSERT하고, Activity 재시도로 같은 orderId가 다시 들어와
+    // PK 충돌이 난 경우에만 이미 생성된 주문으로 보고 성공 처리
     @Override
     public void createOrderInDb(UUID orderId, Integer userId, OrderCreateRequestDto requestDto, OrderContextDto contextDto) {
-        if (orderRepository.existsById(orderId)) {
-            return;
+        try {
+            // flush/commit까지 포함한 주문 + 아웃박스 INSERT 구간
+            orderStageTimer.record(OrderStage.ORDER_INSERT, () ->
+                    transactionTemplate.executeWithoutResult(status -> insertOrder(orderId, userId, requestDto, contextDto)));
+        } catch (DataIntegrityViolationException e) {
+            if (orderRepository.existsById(orderId)) {
+                log.info("이미 생성된 주문입니다. (Activity 재시도) OrderID: {}", orderId);
+                return;
+            }
+            throw e;
         }
+    }
 
-        String orderNumber = generateOrderNumber();
+    private void insertOrder(UUID orderId, Integer userId, OrderCreateRequestDto requestDto, OrderContextDto contextDto) {
+        String orderNumber = orderNumberAllocator.nextOrderNumber();
         BigDecimal totalAmount = BigDecimal.ZERO;
+        BigDecimal itemRevenue = BigDecimal.ZERO;
 
         OrderEntity order = OrderEntity.builder()
                 .id(orderId)
@@ -63,7 +92,9 @@ public class OrderActivityImpl implements OrderActivity {
             BigDecimal itemPrice = BigDecimal.valueOf(menu.getPrice());
 
             // 총액 합산 로직
-            totalAmount = totalAmount.add(itemPrice.multiply(BigDecimal.valueOf(itemDto.getQuantity())));
+            BigDecimal itemSubtotal = itemPrice.multiply(BigDecimal.valueOf(itemDto.getQuantity()));
+            totalAmount = totalAmount.add(itemSubtotal);
+            itemRevenue = itemRevenue.add(itemSubtotal);
 
             OrderItemEntity orderItem = OrderItemEntity.builder()
                     .menuId(menu.getId())
@@ -91,13 +122,15 @@ public class OrderActivityImpl implements OrderActivity {
             order.addOrderItem(orderItem);
         }
 
+        // persist만 하고 flush는 미룸 → 주문/아이템/옵션/아웃박스 INSERT가 한 번의 flush에서 테이블별 batch로 실행됨
         orderRepository.save(order);
+        long amount = totalAmount.longValue();
+        orderStageTimer.record(OrderStage.OUTBOX_ENCODE,
+                () -> orderEventProducer.reserveOrderCreated(orderId, userId, amount));
 
-        orderEventProducer.reserveOrderCreated(
-                orderId,
-                userId,
-                totalAmount.longValue()
-        );
+        // 통계 upsert(native)는 실행 전에 세션을 flush하므로 집계 INSERT를 모두 등록한 뒤 호출
+        // 통계 매출은 기존 집계와 동일하게 메뉴 가격 × 수량 기준 (옵션 제외)
+        orderStatsProjector.recordCreated(order, itemRevenue);
 
         log.info("주문 생성이 완료되었습니다. OrderID: {}, OrderNumber: {}", orderId, orderNumber);
     }
@@ -113,10 +146,13 @@ public class OrderActivityImpl implements OrderActivity {
             return;
         }
 
+        OrderStatus previousStatus = order.getOrderStatus();
         switch (nextStatus) {
             case PENDING -> {
                 order.completePayment();
-                orderEventProducer.reserveOrderPending(order.getStoreId(), order.getId());
+                OrderPendingEvent event = orderEventProducer.reserveOrderPending(
+                        order.getStoreId(), order.getId(), order.getCreatedAt());
+                orderStageTimer.recordCreatedToPending(event.getOrderCreatedAt(), event.getPendingAt());
             }
             case ACCEPTED -> {
                 order.acceptOrder(estimatedTime);
@@ -124,17 +160,24 @@ public class OrderActivityImpl implements OrderActivity {
             }
             case COOKING -> order.startCooking();
             case READY -> order.readyForPickup();
-            case COMPLETED -> order.completeOrder();
+            case COMPLETED -> {
+                order.completeOrder();
+                afterCommit(() -> orderFingerprintGuard.release(orderId));
+            }
             case REJECT_PENDING -> {
                 order.initiateReject(reason); 
                 orderEventProducer.reserveOrderCancelled(order.getId(), reason); // 환불 프로세스 시작
+                afterCommit(() -> pickupSlotGuard.release(orderId));
             }
             case CANCEL_PENDING -> {
                 order.initiateCancel(reason, actor); 
                 orderEventProducer.reserveOrderCancelled(order.getId(), reason); // 환불 프로세스 시작
+                afterCommit(() -> pickupSlotGuard.release(orderId));
             }
             default -> log.info("상태 변경: {}", nextStatus);
         }
+        orderStatsProjector.recordTransition(order, previousStatus);
+        orderBoardPublisher.publish(order, previousStatus);
         
         log.info("Activity: 주문 상태 변경 완료 - orderId={}, changedStatus={}", orderId, order.getOrderStatus());
     }
@@ -152,7 +195,12 @@ public class OrderActivityImpl implements OrderActivity {
     public void handlePaymentFailure(UUID orderId) {
         OrderEntity order = orderRepository.findByIdWithLock(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("주문 없음: " + orderId));
+        OrderStatus previousStatus = order.getOrderStatus();
         order.failPayment();
+        orderStatsProjector.recordTransition(order, previousStatus);
+        orderBoardPublisher.publish(order, previousStatus);
+        afterCommit(() -> orderFingerprintGuard.release(orderId));
+        afterCommit(() -> pickupSlotGuard.release(orderId));
     }
 
     @Override
@@ -163,9 +211,13 @@ public class OrderActivityImpl implements OrderActivity {
         
         if (order.getOrderStatus() != OrderStatus.CANCELLED &&
         order.getOrderStatus() != OrderStatus.REJECTED) {
+            OrderStatus previousStatus = order.getOrderStatus();
             order.initiateCancel(reason, CancelledBy.SYSTEM);
+            orderStatsProjector.recordTransition(order, previousStatus);
+            orderBoardPublisher.publish(order, previousStatus);
             orderEventProducer.reserveOrderCancelled(order.getId(), reason);
         }
+        afterCommit(() -> pickupSlotGuard.release(orderId));
     }
     
     @Override
@@ -174,6 +226,7 @@ public class OrderActivityImpl implements OrderActivity {
         OrderEntity order = orderRepository.findByIdWithLock(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("주문 없음: " + orderId));
         
+        OrderStatus previousStatus = order.getOrderStatus();
         if (order.getOrderStatus() == OrderStatus.REJECT_PENDING) {
             order.finalizeReject();
             log.info("주문 거절 확정 완료: {}", orderId);
@@ -181,6 +234,12 @@ public class OrderActivityImpl implements OrderActivity {
             order.finalizeCancel();
             log.info("주문 취소 확정 완료: {}", orderId);
         }
+        orderStatsProjector.recordTransition(order, previousStatus);
+        orderBoardPublisher.publish(order, previousStatus);
+        // 종료된 주문은 같은 장바구니로 다시 주문할 수 있도록 fingerprint 해제
+        afterCommit(() -> orderFingerprintGuard.release(orderId));
+        // 취소/거절 시작 시 이미 해제됐으면 아무 일도 하지 않음
+        afterCommit(() -> pickupSlotGuard.release(orderId));
     }
     
     @Override
@@ -189,25 +248,26 @@ public class OrderActivityImpl implements OrderActivity {
         OrderEntity order = orderRepository.findByIdWithLock(orderId)
                 .orElseThrow(() -> new IllegalArgumentException("주문 없음: " + orderId));
         
+        OrderStatus previousStatus = order.getOrderStatus();
         order.markAsRefundError();
+        orderStatsProjector.recordTransition(order, previousStatus);
+        orderBoardPublisher.publish(order, previousStatus);
         log.error("[환불 타임아웃 발생] 관찰 필요 - OrderID: {}, 현재상태: {}",
                 orderId, order.getOrderStatus());
         orderRepository.save(order);
     }
 
-    private String generateOrderNumber() {
-        String date = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String datePattern = "ORDER-" + date + "-%";
-
-        Optional<String> lastOrderNumber = orderRepository.findTopOrderNumberByDatePattern(datePattern);
-
-        int sequence = 1;
-        if (lastOrderNumber.isPresent()) {
-            String lastNumber = lastOrderNumber.get();
-            String lastSeq = lastNumber.substring(lastNumber.lastIndexOf('-') + 1);
-            sequence = Integer.parseInt(lastSeq) + 1;
+    // Redis 선점(fingerprint/픽업 시간대) 해제는 상태 변경이 커밋된 뒤에 실행. 커밋 전에 해제하면 커밋 실패 후 Activity 재시도 사이에 중복 주문이나 초과 예약이 들어올 수 있음
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
         }
-
-        return String.format("ORDER-%s-%04d", date, sequence);
     }
 }
@@ -0,0 +1,21 @@
+package com.example.Spot.order.infrastructure.temporal.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.Spot.order.infrastructure.metrics.OrderStageTimer;
+import com.example.Spot.order.infrastructure.temporal.interceptor.OrderStageWorkerInterceptor;
+
+import io.temporal.spring.boot.TemporalOptionsCustomizer;
+import io.temporal.worker.WorkerFactoryOptions;
+
+@Configuration
+public class OrderWorkerInterceptorConfig {
+
+    // starter가 만드는 WorkerFactory에 단계별 지연 시간 interceptor 등록
+    @Bean
+    public TemporalOptionsCustomizer<WorkerFactoryOptions.Builder> orderStageInterceptorCustomizer(
+            OrderStageTimer orderStageTimer) {
+        return builder -> builder.setWorkerInterceptors(new OrderStageWorkerInterceptor(orderStageTimer));
+    }
+}
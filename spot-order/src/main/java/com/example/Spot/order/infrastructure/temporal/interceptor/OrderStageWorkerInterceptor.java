@@ -0,0 +1,155 @@
+package com.example.Spot.order.infrastructure.temporal.interceptor;
+
+import java.util.concurrent.TimeUnit;
+
+import com.example.Spot.order.domain.enums.OrderStatus;
+import com.example.Spot.order.infrastructure.metrics.OrderStage;
+import com.example.Spot.order.infrastructure.metrics.OrderStageTimer;
+import com.example.Spot.order.infrastructure.temporal.dto.OrderStatusUpdate;
+
+import io.temporal.activity.ActivityExecutionContext;
+import io.temporal.activity.ActivityInfo;
+import io.temporal.common.interceptors.ActivityInboundCallsInterceptor;
+import io.temporal.common.interceptors.ActivityInboundCallsInterceptorBase;
+import io.temporal.common.interceptors.WorkerInterceptorBase;
+import io.temporal.common.interceptors.WorkflowInboundCallsInterceptor;
+import io.temporal.common.interceptors.WorkflowInboundCallsInterceptorBase;
+import io.temporal.common.interceptors.WorkflowOutboundCallsInterceptor;
+import io.temporal.common.interceptors.WorkflowOutboundCallsInterceptorBase;
+import io.temporal.workflow.Workflow;
+import io.temporal.workflow.unsafe.WorkflowUnsafe;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 worker의 단계별 지연 시간을 OrderWorkflowImpl/OrderActivityImpl 코드 변경 없이 기록한다.
+ * - Activity: 실행 시간, schedule-to-start(task queue 대기)
+ * - Workflow: 결제/환불 child workflow 실행 시간, 결제 워크플로우 시작 → PENDING 시그널 수신
+ * 워크플로우 쪽 시간은 Workflow.currentTimeMillis()로 재고 replay 중에는 기록하지 않으므로
+ * 워크플로우 결정성(determinism)에 영향을 주지 않고 이력 재생으로 값이 중복되지도 않는다.
+ */
+@RequiredArgsConstructor
+public class OrderStageWorkerInterceptor extends WorkerInterceptorBase {
+
+    private static final String PAYMENT_APPROVE_WORKFLOW = "PaymentApproveWorkflow";
+    private static final String PAYMENT_CANCEL_WORKFLOW = "PaymentCancelWorkflow";
+
+    private final OrderStageTimer orderStageTimer;
+
+    @Override
+    public ActivityInboundCallsInterceptor interceptActivity(ActivityInboundCallsInterceptor next) {
+        return new ActivityTimingInterceptor(next);
+    }
+
+    @Override
+    public WorkflowInboundCallsInterceptor interceptWorkflow(WorkflowInboundCallsInterceptor next) {
+        return new WorkflowTimingInterceptor(next);
+    }
+
+    private class ActivityTimingInterceptor extends ActivityInboundCallsInterceptorBase {
+
+        private ActivityInfo info;
+
+        ActivityTimingInterceptor(ActivityInboundCallsInterceptor next) {
+            super(next);
+        }
+
+        @Override
+        public void init(ActivityExecutionContext context) {
+            this.info = context.getInfo();
+            super.init(context);
+        }
+
+        @Override
+        public ActivityOutput execute(ActivityInput input) {
+            String activityType = info.getActivityType();
+            orderStageTimer.recordActivityQueued(activityType,
+                    System.currentTimeMillis() - info.getCurrentAttemptScheduledTimestamp());
+
+            long start = System.nanoTime();
+            boolean success = false;
+            try {
+                ActivityOutput output = super.execute(input);
+                success = true;
+                return output;
+            } finally {
+                orderStageTimer.recordActivity(activityType, System.nanoTime() - start, success);
+            }
+        }
+    }
+
+    // 워크플로우 실행마다 생성되므로 결제 워크플로우 시작 시각을 실행 단위 상태로 둔다
+    private class WorkflowTimingInterceptor extends WorkflowInboundCallsInterceptorBase {
+
+        private long paymentStartedAt;
+        private boolean pendingRecorded;
+
+        WorkflowTimingInterceptor(WorkflowInboundCallsInterceptor next) {
+            super(next);
+        }
+
+        @Override
+        public void init(WorkflowOutboundCallsInterceptor outboundCalls) {
+            super.init(new ChildWorkflowTimingInterceptor(outboundCalls, this));
+        }
+
+        @Override
+        public void handleSignal(SignalInput input) {
+            if (!pendingRecorded && paymentStartedAt > 0 && isPendingSignal(input.getArguments())) {
+                pendingRecorded = true;
+                recordElapsed(OrderStage.PENDING_SIGNAL, paymentStartedAt, true);
+            }
+            super.handleSignal(input);
+        }
+
+        private boolean isPendingSignal(Object[] arguments) {
+            return arguments.length > 0
+                    && arguments[0] instanceof OrderStatusUpdate update
+                    && update.getStatus() == OrderStatus.PENDING;
+        }
+    }
+
+    private class ChildWorkflowTimingInterceptor extends WorkflowOutboundCallsInterceptorBase {
+
+        private final WorkflowTimingInterceptor workflow;
+
+        ChildWorkflowTimingInterceptor(WorkflowOutboundCallsInterceptor next, WorkflowTimingInterceptor workflow) {
+            super(next);
+            this.workflow = workflow;
+        }
+
+        @Override
+        public <R> ChildWorkflowOutput<R> executeChildWorkflow(ChildWorkflowInput<R> input) {
+            OrderStage stage = switch (input.getWorkflowType()) {
+                case PAYMENT_APPROVE_WORKFLOW -> OrderStage.PAYMENT_WORKFLOW;
+                case PAYMENT_CANCEL_WORKFLOW -> OrderStage.PAYMENT_CANCEL_WORKFLOW;
+                default -> null;
+            };
+            ChildWorkflowOutput<R> output = super.executeChildWorkflow(input);
+            if (stage == null) {
+                return output;
+            }
+
+            long startedAt = Workflow.currentTimeMillis();
+            if (stage == OrderStage.PAYMENT_WORKFLOW) {
+                workflow.paymentStartedAt = startedAt;
+            }
+            return new ChildWorkflowOutput<>(
+                    output.getResult().handle((result, failure) -> {
+                        recordElapsed(stage, startedAt, failure == null);
+                        if (failure != null) {
+                            throw failure;
+                        }
+                        return result;
+                    }),
+                    output.getWorkflowExecution());
+        }
+    }
+
+    private void recordElapsed(OrderStage stage, long startedAtMillis, boolean success) {
+        if (WorkflowUnsafe.isReplaying()) {
+            return;
+        }
+        long elapsedMillis = Workflow.currentTimeMillis() - startedAtMillis;
+        orderStageTimer.record(stage, TimeUnit.MILLISECONDS.toNanos(elapsedMillis), success);
+    }
+}
@@ -43,7 +43,13 @@ public enum OrderSuccessCode implements BaseSuccessCode {
             "결제가 완료되었습니다."),
     PAYMENT_FAILED(HttpStatus.OK,
             "ORDER200_10",
-            "결제가 실패했습니다.");
+            "결제가 실패했습니다."),
+    ORDER_BULK_STATUS_REQUESTED(HttpStatus.OK,
+            "ORDER200_11",
+            "주문 상태 일괄 변경을 요청했습니다."),
+    ORDER_DLT_REPLAYED(HttpStatus.OK,
+            "ORDER200_12",
+            "DLT 메시지를 재처리 토픽으로 발행했습니다.");
 
     private final HttpStatus status;
     private final String code;
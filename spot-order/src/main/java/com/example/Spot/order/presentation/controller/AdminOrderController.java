@@ -12,14 +12,18 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.Spot.global.presentation.ApiResponse;
+import com.example.Spot.order.application.service.DeadLetterReplayService;
 import com.example.Spot.order.application.service.OrderService;
 import com.example.Spot.order.domain.enums.OrderStatus;
 import com.example.Spot.order.presentation.code.OrderSuccessCode;
+import com.example.Spot.order.presentation.dto.response.DeadLetterReplayResponseDto;
+import com.example.Spot.order.presentation.dto.response.OrderCursorPageResponseDto;
 import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
 import com.example.Spot.order.presentation.dto.response.OrderStatsResponseDto;
 
@@ -32,6 +36,7 @@ import lombok.RequiredArgsConstructor;
 public class AdminOrderController {
 
     private final OrderService orderService;
+    private final DeadLetterReplayService deadLetterReplayService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<Page<OrderResponseDto>>> getAllOrders(
@@ -54,6 +59,37 @@ public class AdminOrderController {
                 .body(ApiResponse.onSuccess(OrderSuccessCode.ORDER_LIST_FOUND, response));
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<OrderCursorPageResponseDto>> getAllOrdersByCursor(
+            @RequestParam(required = false) UUID storeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        LocalDateTime dateTime = date != null ? date.atStartOfDay() : null;
+
+        OrderCursorPageResponseDto response = orderService.getAllOrdersByCursor(
+                storeId, dateTime, status, cursor, size);
+
+        return ResponseEntity
+                .status(OrderSuccessCode.ORDER_LIST_FOUND.getStatus())
+                .body(ApiResponse.onSuccess(OrderSuccessCode.ORDER_LIST_FOUND, response));
+    }
+
+    // 예: topic=spot.order.accepted-chef-dlt → spot.order.accepted-chef-retry-0 으로 재발행
+    @PostMapping("/dlt/replay")
+    public ResponseEntity<ApiResponse<DeadLetterReplayResponseDto>> replayDeadLetters(
+            @RequestParam String topic,
+            @RequestParam(defaultValue = "500") int maxMessages) {
+
+        DeadLetterReplayResponseDto response = deadLetterReplayService.replay(topic, maxMessages);
+
+        return ResponseEntity
+                .status(OrderSuccessCode.ORDER_DLT_REPLAYED.getStatus())
+                .body(ApiResponse.onSuccess(OrderSuccessCode.ORDER_DLT_REPLAYED, response));
+    }
+
     @GetMapping("/stats")
     public ResponseEntity<OrderStatsResponseDto> getOrderStats() {
         OrderStatsResponseDto stats = orderService.getOrderStats();
@@ -3,21 +3,28 @@ package com.example.Spot.order.presentation.controller;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.example.Spot.global.infrastructure.config.security.CustomUserDetails;
 import com.example.Spot.global.presentation.ApiResponse;
 import com.example.Spot.order.application.service.OrderService;
 import com.example.Spot.order.presentation.code.OrderSuccessCode;
+import com.example.Spot.order.presentation.dto.request.OrderBulkStatusRequestDto;
+import com.example.Spot.order.presentation.dto.response.OrderBulkStatusResponseDto;
 import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -40,6 +47,27 @@ public class ChefOrderController {
                 .body(ApiResponse.onSuccess(OrderSuccessCode.ORDER_LIST_FOUND, response));
     }
 
+    @GetMapping(value = "/chef/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChefOrders(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        return orderService.subscribeStoreBoard(userDetails.getUserId(), lastEventId);
+    }
+
+    @PatchMapping("/chef/bulk-status")
+    public ResponseEntity<ApiResponse<OrderBulkStatusResponseDto>> bulkChangeChefOrderStatus(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody OrderBulkStatusRequestDto requestDto) {
+
+        OrderBulkStatusResponseDto response = orderService.bulkChangeChefOrderStatus(
+                userDetails.getUserId(), requestDto);
+
+        return ResponseEntity
+                .status(OrderSuccessCode.ORDER_BULK_STATUS_REQUESTED.getStatus())
+                .body(ApiResponse.onSuccess(OrderSuccessCode.ORDER_BULK_STATUS_REQUESTED, response));
+    }
+
     @PatchMapping("/{orderId}/start-cooking")
     public ResponseEntity<ApiResponse<OrderResponseDto>> startCooking(@PathVariable UUID orderId) {
         OrderResponseDto response = orderService.startCooking(orderId);
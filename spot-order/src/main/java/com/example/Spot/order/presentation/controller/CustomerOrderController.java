@@ -18,10 +18,12 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.Spot.global.infrastructure.concurrent.ConcurrencyLimited;
 import com.example.Spot.global.infrastructure.config.security.CustomUserDetails;
 import com.example.Spot.global.presentation.ApiResponse;
 import com.example.Spot.order.application.service.OrderService;
@@ -29,6 +31,7 @@ import com.example.Spot.order.domain.enums.OrderStatus;
 import com.example.Spot.order.presentation.code.OrderSuccessCode;
 import com.example.Spot.order.presentation.dto.request.OrderCancelRequestDto;
 import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
+import com.example.Spot.order.presentation.dto.response.OrderCursorPageResponseDto;
 import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
 import com.example.Spot.order.presentation.swagger.CustomerOrderApi;
 
@@ -45,12 +48,14 @@ public class CustomerOrderController implements CustomerOrderApi {
 
     @Override
     @PostMapping
+    @ConcurrencyLimited("order-create")
     public ResponseEntity<ApiResponse<OrderResponseDto>> createOrder(
             @Valid @RequestBody OrderCreateRequestDto requestDto,
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         
         Integer userId = userDetails.getUserId();
-        OrderResponseDto response = orderService.createOrder(requestDto, userId);
+        OrderResponseDto response = orderService.createOrder(requestDto, userId, idempotencyKey);
         
         return ResponseEntity
                 .status(OrderSuccessCode.ORDER_CREATED.getStatus())
@@ -80,6 +85,26 @@ public class CustomerOrderController implements CustomerOrderApi {
                 .body(ApiResponse.onSuccess(OrderSuccessCode.ORDER_LIST_FOUND, response));
     }
 
+    @GetMapping("/my/cursor")
+    public ResponseEntity<ApiResponse<OrderCursorPageResponseDto>> getMyOrdersByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) UUID storeId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Integer userId = userDetails.getUserId();
+        LocalDateTime dateTime = date != null ? date.atStartOfDay() : null;
+
+        OrderCursorPageResponseDto response = orderService.getUserOrdersByCursor(
+                userId, storeId, dateTime, status, cursor, size);
+
+        return ResponseEntity
+                .status(OrderSuccessCode.ORDER_LIST_FOUND.getStatus())
+                .body(ApiResponse.onSuccess(OrderSuccessCode.ORDER_LIST_FOUND, response));
+    }
+
     @GetMapping("/my/active")
     public ResponseEntity<ApiResponse<List<OrderResponseDto>>> getMyActiveOrders(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
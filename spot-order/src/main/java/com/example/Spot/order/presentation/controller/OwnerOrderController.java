@@ -10,6 +10,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -17,9 +18,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.example.Spot.global.infrastructure.config.security.CustomUserDetails;
 import com.example.Spot.global.presentation.ApiResponse;
@@ -27,9 +30,13 @@ import com.example.Spot.order.application.service.OrderService;
 import com.example.Spot.order.domain.enums.OrderStatus;
 import com.example.Spot.order.presentation.code.OrderSuccessCode;
 import com.example.Spot.order.presentation.dto.request.OrderAcceptRequestDto;
+import com.example.Spot.order.presentation.dto.request.OrderBulkStatusRequestDto;
 import com.example.Spot.order.presentation.dto.request.OrderCancelRequestDto;
 import com.example.Spot.order.presentation.dto.request.OrderRejectRequestDto;
+import com.example.Spot.order.presentation.dto.response.OrderBulkStatusResponseDto;
+import com.example.Spot.order.presentation.dto.response.OrderCursorPageResponseDto;
 import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
+import com.example.Spot.order.presentation.swagger.OwnerOrderApi;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -38,10 +45,11 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/orders")
 @RequiredArgsConstructor
 @PreAuthorize("hasRole('OWNER')")
-public class OwnerOrderController {
+public class OwnerOrderController implements OwnerOrderApi {
 
     private final OrderService orderService;
 
+    @Override
     @GetMapping("/my-store")
     public ResponseEntity<ApiResponse<Page<OrderResponseDto>>> getMyStoreOrders(
             @AuthenticationPrincipal CustomUserDetails userDetails,
@@ -65,6 +73,28 @@ public class OwnerOrderController {
                 .body(ApiResponse.onSuccess(OrderSuccessCode.ORDER_LIST_FOUND, response));
     }
 
+    @Override
+    @GetMapping("/my-store/cursor")
+    public ResponseEntity<ApiResponse<OrderCursorPageResponseDto>> getMyStoreOrdersByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) Integer customerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Integer userId = userDetails.getUserId();
+        LocalDateTime dateTime = date != null ? date.atStartOfDay() : null;
+
+        OrderCursorPageResponseDto response = orderService.getMyStoreOrdersByCursor(
+                userId, customerId, dateTime, status, cursor, size);
+
+        return ResponseEntity
+                .status(OrderSuccessCode.ORDER_LIST_FOUND.getStatus())
+                .body(ApiResponse.onSuccess(OrderSuccessCode.ORDER_LIST_FOUND, response));
+    }
+
+    @Override
     @GetMapping("/my-store/active")
     public ResponseEntity<ApiResponse<List<OrderResponseDto>>> getMyStoreActiveOrders(
             @AuthenticationPrincipal CustomUserDetails userDetails) {
@@ -77,6 +107,30 @@ public class OwnerOrderController {
                 .body(ApiResponse.onSuccess(OrderSuccessCode.ORDER_LIST_FOUND, response));
     }
 
+    @Override
+    @GetMapping(value = "/my-store/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMyStoreOrders(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+        return orderService.subscribeStoreBoard(userDetails.getUserId(), lastEventId);
+    }
+
+    @Override
+    @PatchMapping("/my-store/bulk-status")
+    public ResponseEntity<ApiResponse<OrderBulkStatusResponseDto>> bulkChangeMyStoreOrderStatus(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody OrderBulkStatusRequestDto requestDto) {
+
+        OrderBulkStatusResponseDto response = orderService.bulkChangeMyStoreOrderStatus(
+                userDetails.getUserId(), requestDto);
+
+        return ResponseEntity
+                .status(OrderSuccessCode.ORDER_BULK_STATUS_REQUESTED.getStatus())
+                .body(ApiResponse.onSuccess(OrderSuccessCode.ORDER_BULK_STATUS_REQUESTED, response));
+    }
+
+    @Override
     @PatchMapping("/{orderId}/accept")
     public ResponseEntity<ApiResponse<OrderResponseDto>> acceptOrder(
             @PathVariable UUID orderId,
@@ -89,6 +143,7 @@ public class OwnerOrderController {
                 .body(ApiResponse.onSuccess(OrderSuccessCode.ORDER_ACCEPTED, response));
     }
 
+    @Override
     @PatchMapping("/{orderId}/reject")
     public ResponseEntity<ApiResponse<OrderResponseDto>> rejectOrder(
             @PathVariable UUID orderId,
@@ -101,6 +156,7 @@ public class OwnerOrderController {
                 .body(ApiResponse.onSuccess(OrderSuccessCode.ORDER_REJECTED, response));
     }
 
+    @Override
     @PatchMapping("/{orderId}/complete")
     public ResponseEntity<ApiResponse<OrderResponseDto>> completeOrder(@PathVariable UUID orderId) {
         OrderResponseDto response = orderService.completeOrder(orderId);
@@ -110,6 +166,7 @@ public class OwnerOrderController {
                 .body(ApiResponse.onSuccess(OrderSuccessCode.ORDER_COMPLETED, response));
     }
 
+    @Override
     @PatchMapping("/{orderId}/store-cancel")
     public ResponseEntity<ApiResponse<OrderResponseDto>> storeCancelOrder(
             @PathVariable UUID orderId,
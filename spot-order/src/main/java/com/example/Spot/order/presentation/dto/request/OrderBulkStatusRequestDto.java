@@ -0,0 +1,33 @@
+package com.example.Spot.order.presentation.dto.request;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.example.Spot.order.domain.enums.OrderStatus;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBulkStatusRequestDto {
+
+    @NotEmpty(message = "주문 ID 목록은 필수입니다.")
+    @Size(max = 100, message = "한 번에 최대 100건까지 변경할 수 있습니다.")
+    private List<@NotNull UUID> orderIds;
+
+    @NotNull(message = "변경할 주문 상태는 필수입니다.")
+    private OrderStatus targetStatus;
+
+    // targetStatus가 ACCEPTED일 때만 사용
+    @Min(value = 1, message = "예상 조리 시간은 1분 이상이어야 합니다.")
+    private Integer estimatedTime;
+}
@@ -0,0 +1,20 @@
+package com.example.Spot.order.presentation.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterReplayResponseDto {
+
+    private String dltTopic;
+    // 재처리 대상 토픽 (해당 리스너의 첫 번째 retry 토픽)
+    private String targetTopic;
+    private int replayed;
+    // 요청 시점 기준으로 아직 재처리하지 않은 DLT 레코드 수
+    private long remaining;
+}
@@ -0,0 +1,62 @@
+package com.example.Spot.order.presentation.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.example.Spot.order.domain.enums.OrderStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderBulkStatusResponseDto {
+
+    private OrderStatus targetStatus;
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<OrderBulkStatusResult> results;
+
+    public static OrderBulkStatusResponseDto of(OrderStatus targetStatus, List<OrderBulkStatusResult> results) {
+        int succeeded = (int) results.stream().filter(OrderBulkStatusResult::isSuccess).count();
+        return OrderBulkStatusResponseDto.builder()
+                .targetStatus(targetStatus)
+                .requested(results.size())
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OrderBulkStatusResult {
+        private UUID orderId;
+        private boolean success;
+        private OrderStatus currentStatus;
+        private String message;
+
+        public static OrderBulkStatusResult success(UUID orderId) {
+            return OrderBulkStatusResult.builder()
+                    .orderId(orderId)
+                    .success(true)
+                    .build();
+        }
+
+        public static OrderBulkStatusResult failure(UUID orderId, OrderStatus currentStatus, String message) {
+            return OrderBulkStatusResult.builder()
+                    .orderId(orderId)
+                    .success(false)
+                    .currentStatus(currentStatus)
+                    .message(message)
+                    .build();
+        }
+    }
+}
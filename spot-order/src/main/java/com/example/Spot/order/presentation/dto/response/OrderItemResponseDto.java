@@ -34,24 +34,32 @@ public class OrderItemResponseDto {
         List<OrderItemOptionResponseDto> optionDtos = entity.getOrderItemOptions().stream()
                 .map(OrderItemOptionResponseDto::from)
                 .collect(Collectors.toList());
-        
+
+        return of(entity.getId(), entity.getMenuId(), entity.getMenuName(), entity.getMenuPrice(),
+                entity.getQuantity(), entity.getCreatedAt(), optionDtos);
+    }
+
+    // 엔티티 없이 조회 결과(tuple)로 바로 조립할 때 사용
+    public static OrderItemResponseDto of(UUID id, UUID menuId, String menuName, BigDecimal menuPrice,
+                                          Integer quantity, LocalDateTime createdAt,
+                                          List<OrderItemOptionResponseDto> optionDtos) {
         BigDecimal optionsTotal = optionDtos.stream()
                 .map(OrderItemOptionResponseDto::getOptionPrice)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
         
-        BigDecimal itemTotal = entity.getMenuPrice().add(optionsTotal);
-        BigDecimal subtotal = itemTotal.multiply(BigDecimal.valueOf(entity.getQuantity()));
+        BigDecimal itemTotal = menuPrice.add(optionsTotal);
+        BigDecimal subtotal = itemTotal.multiply(BigDecimal.valueOf(quantity));
         
         return OrderItemResponseDto.builder()
-                .id(entity.getId())
-                .menuId(entity.getMenuId())
-                .menuName(entity.getMenuName())
-                .menuPrice(entity.getMenuPrice())
-                .quantity(entity.getQuantity())
+                .id(id)
+                .menuId(menuId)
+                .menuName(menuName)
+                .menuPrice(menuPrice)
+                .quantity(quantity)
                 .options(optionDtos)
                 .optionsTotal(optionsTotal)
                 .subtotal(subtotal)
-                .createdAt(entity.getCreatedAt())
+                .createdAt(createdAt)
                 .build();
     }
 }
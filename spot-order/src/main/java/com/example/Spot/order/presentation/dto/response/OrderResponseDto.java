@@ -55,9 +55,7 @@ public class OrderResponseDto {
                 .map(OrderItemResponseDto::from)
                 .collect(Collectors.toList());
 
-        BigDecimal totalAmount = orderItemDtos.stream()
-                .map(OrderItemResponseDto::getSubtotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal totalAmount = totalAmountOf(orderItemDtos);
 
         return OrderResponseDto.builder()
                 .id(entity.getId())
@@ -129,6 +127,12 @@ public class OrderResponseDto {
                 .build();
     }
 
+    public static BigDecimal totalAmountOf(List<OrderItemResponseDto> orderItemDtos) {
+        return orderItemDtos.stream()
+                .map(OrderItemResponseDto::getSubtotal)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
     public static OrderResponseDto fromId(UUID orderId, OrderStatus status) {
         return OrderResponseDto.builder()
                 .id(orderId)
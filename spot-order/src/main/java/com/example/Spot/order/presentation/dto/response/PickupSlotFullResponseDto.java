@@ -0,0 +1,18 @@
+package com.example.Spot.order.presentation.dto.response;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PickupSlotFullResponseDto {
+
+    private LocalDateTime requestedPickupTime;
+    private LocalDateTime nextAvailablePickupTime;
+}
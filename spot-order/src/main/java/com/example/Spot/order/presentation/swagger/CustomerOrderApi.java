@@ -11,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import com.example.Spot.global.infrastructure.config.security.CustomUserDetails;
@@ -18,6 +19,7 @@ import com.example.Spot.global.presentation.ApiResponse;
 import com.example.Spot.order.domain.enums.OrderStatus;
 import com.example.Spot.order.presentation.dto.request.OrderCancelRequestDto;
 import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
+import com.example.Spot.order.presentation.dto.response.OrderCursorPageResponseDto;
 import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,14 +31,18 @@ import jakarta.validation.Valid;
 @Tag(name = "주문 (고객)", description = "고객용 주문 API")
 public interface CustomerOrderApi {
 
-    @Operation(summary = "주문 생성", description = "새로운 주문을 생성합니다.")
+    @Operation(summary = "주문 생성", description = "새로운 주문을 생성합니다. "
+            + "Idempotency-Key를 보내면 같은 key의 재요청에는 새 주문 없이 처음 응답을 그대로 돌려줍니다.")
     @ApiResponses({
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "주문 생성 성공"),
-            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "주문 생성 성공 (재요청이면 처음 응답)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 또는 같은 key로 다른 주문 요청"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "같은 key의 처음 요청이 아직 처리 중")
     })
     ResponseEntity<ApiResponse<OrderResponseDto>> createOrder(
             @Valid @RequestBody OrderCreateRequestDto requestDto,
-            @AuthenticationPrincipal CustomUserDetails userDetails);
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "클라이언트가 주문 시도마다 만드는 고유 값 (재시도 시 같은 값 사용, 최대 255자)")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey);
 
     @Operation(summary = "내 주문 목록 조회", description = "본인의 주문 목록을 페이지네이션으로 조회합니다.")
     @ApiResponses({
@@ -52,6 +58,19 @@ public interface CustomerOrderApi {
             @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "createdAt") String sortBy,
             @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "DESC") Sort.Direction direction);
 
+    @Operation(summary = "내 주문 목록 조회 (커서)", description = "본인의 주문 목록을 최신순 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    })
+    ResponseEntity<ApiResponse<OrderCursorPageResponseDto>> getMyOrdersByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "매장 ID (필터)") @RequestParam(required = false) UUID storeId,
+            @Parameter(description = "날짜 (필터)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "주문 상태 (필터)") @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size);
+
     @Operation(summary = "진행 중인 내 주문 조회", description = "본인의 진행 중인 주문 목록을 조회합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
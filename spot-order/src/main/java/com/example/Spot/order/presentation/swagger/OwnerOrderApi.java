@@ -11,14 +11,19 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.example.Spot.global.infrastructure.config.security.CustomUserDetails;
 import com.example.Spot.global.presentation.ApiResponse;
 import com.example.Spot.order.domain.enums.OrderStatus;
 import com.example.Spot.order.presentation.dto.request.OrderAcceptRequestDto;
+import com.example.Spot.order.presentation.dto.request.OrderBulkStatusRequestDto;
 import com.example.Spot.order.presentation.dto.request.OrderCancelRequestDto;
 import com.example.Spot.order.presentation.dto.request.OrderRejectRequestDto;
+import com.example.Spot.order.presentation.dto.response.OrderBulkStatusResponseDto;
+import com.example.Spot.order.presentation.dto.response.OrderCursorPageResponseDto;
 import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -44,6 +49,19 @@ public interface OwnerOrderApi {
             @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "createdAt") String sortBy,
             @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "DESC") Sort.Direction direction);
 
+    @Operation(summary = "내 매장 주문 목록 조회 (커서)", description = "점주 매장의 주문 목록을 최신순 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+    })
+    ResponseEntity<ApiResponse<OrderCursorPageResponseDto>> getMyStoreOrdersByCursor(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "고객 ID (필터)") @RequestParam(required = false) Integer customerId,
+            @Parameter(description = "날짜 (필터)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "주문 상태 (필터)") @RequestParam(required = false) OrderStatus status,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size);
+
     @Operation(summary = "내 매장 진행 중인 주문 조회", description = "점주 매장의 진행 중인 주문 목록을 조회합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공")
@@ -51,6 +69,23 @@ public interface OwnerOrderApi {
     ResponseEntity<ApiResponse<List<OrderResponseDto>>> getMyStoreActiveOrders(
             @AuthenticationPrincipal CustomUserDetails userDetails);
 
+    @Operation(summary = "내 매장 주문 보드 구독 (SSE)", description = "점주 매장의 주문 상태 변경을 Server-Sent Events로 수신합니다. 재연결 시 Last-Event-ID 이후 이벤트를 재전송하며, 재전송할 수 없으면 resync 이벤트를 보냅니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "구독 성공")
+    })
+    SseEmitter streamMyStoreOrders(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "마지막으로 수신한 이벤트 ID") @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId);
+
+    @Operation(summary = "주문 상태 일괄 변경", description = "여러 주문을 한 번에 수락(ACCEPTED) 또는 완료(COMPLETED) 처리합니다. 주문별 처리 결과를 반환합니다.")
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "요청 성공 (주문별 결과 포함)"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "일괄 변경할 수 없는 상태")
+    })
+    ResponseEntity<ApiResponse<OrderBulkStatusResponseDto>> bulkChangeMyStoreOrderStatus(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody OrderBulkStatusRequestDto requestDto);
+
     @Operation(summary = "주문 수락", description = "주문을 수락하고 예상 준비 시간을 설정합니다.")
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "수락 성공"),
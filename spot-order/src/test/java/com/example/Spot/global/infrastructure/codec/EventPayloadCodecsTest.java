@@ -0,0 +1,106 @@
+package com.example.Spot.global.infrastructure.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.Spot.global.infrastructure.config.codec.EventCodecProperties;
+import com.example.Spot.order.infrastructure.event.publish.OrderCreatedEvent;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+class EventPayloadCodecsTest {
+
+    private static final String SMILE_TOPIC = "spot.order.created";
+    private static final String JSON_TOPIC = "spot.order.pending";
+
+    private JsonEventPayloadCodec json;
+    private SmileEventPayloadCodec smile;
+    private EventPayloadCodecs codecs;
+
+    @BeforeEach
+    void setUp() {
+        json = new JsonEventPayloadCodec(Jackson2ObjectMapperBuilder.json().build());
+        smile = new SmileEventPayloadCodec(Jackson2ObjectMapperBuilder.json().factory(new SmileFactory()).build());
+
+        EventCodecProperties properties = new EventCodecProperties();
+        properties.setTopics(Map.of(SMILE_TOPIC, SmileEventPayloadCodec.NAME));
+        codecs = new EventPayloadCodecs(List.of(json, smile), properties);
+    }
+
+    @Test
+    @DisplayName("토픽 설정에 따라 인코딩하고, 수신 측은 헤더로 방식을 판별해 디코딩한다")
+    void encodesPerTopicAndDetectsOnDecode() throws IOException {
+        OrderCreatedEvent event = sampleEvent();
+
+        byte[] smilePayload = codecs.encode(SMILE_TOPIC, event);
+        byte[] jsonPayload = codecs.encode(JSON_TOPIC, event);
+
+        assertThat(smile.matches(smilePayload)).isTrue();
+        assertThat(json.matches(jsonPayload)).isTrue();
+        assertSameEvent(codecs.decode(smilePayload, OrderCreatedEvent.class), event);
+        assertSameEvent(codecs.decode(jsonPayload, OrderCreatedEvent.class), event);
+    }
+
+    @Test
+    @DisplayName("전환 이전에 발행된 JSON 문자열 payload도 그대로 디코딩된다")
+    void decodesLegacyJsonText() throws IOException {
+        UUID orderId = UUID.randomUUID();
+        byte[] legacy = ("{\"orderId\":\"" + orderId + "\",\"userId\":7,\"amount\":15000}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        OrderCreatedEvent decoded = codecs.decode(legacy, OrderCreatedEvent.class);
+
+        assertThat(decoded.getOrderId()).isEqualTo(orderId);
+        assertThat(decoded.getAmount()).isEqualTo(15000L);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 형식의 payload는 IOException")
+    void rejectsUnknownPayload() {
+        assertThatThrownBy(() -> codecs.decode(new byte[] {0x01, 0x02}, OrderCreatedEvent.class))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("설정에 없는 codec 이름은 기동 시점에 실패한다")
+    void rejectsUnknownCodecName() {
+        EventCodecProperties properties = new EventCodecProperties();
+        properties.setTopics(Map.of(SMILE_TOPIC, "avro"));
+
+        assertThatThrownBy(() -> new EventPayloadCodecs(List.of(json, smile), properties))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    // 인코딩/디코딩 시간 비교는 spot-benchmarks의 OrderCreatedEventBenchmark에서 측정
+    @Test
+    @DisplayName("Smile은 JSON보다 이벤트당 바이트가 작다")
+    void smileIsSmallerThanJson() throws IOException {
+        OrderCreatedEvent event = sampleEvent();
+
+        assertThat(smile.encode(event).length).isLessThan(json.encode(event).length);
+    }
+
+    private OrderCreatedEvent sampleEvent() {
+        return OrderCreatedEvent.builder()
+                .orderId(UUID.randomUUID())
+                .userId(42)
+                .amount(23500L)
+                .build();
+    }
+
+    private void assertSameEvent(OrderCreatedEvent actual, OrderCreatedEvent expected) {
+        assertThat(actual.getOrderId()).isEqualTo(expected.getOrderId());
+        assertThat(actual.getUserId()).isEqualTo(expected.getUserId());
+        assertThat(actual.getAmount()).isEqualTo(expected.getAmount());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.Spot.global.infrastructure.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final int WINDOW_SAMPLES = 10;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter("test",
+                new AdaptiveConcurrencyLimiter.Settings(10, 2, 50, 1.5, 0.2, 60, WINDOW_SAMPLES),
+                meterRegistry);
+    }
+
+    @Test
+    @DisplayName("한도만큼 처리 중이면 추가 요청을 거절하고 거절 수를 기록한다")
+    void rejectsWhenLimitReached() {
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isNotNull();
+        }
+
+        assertThat(limiter.tryAcquire()).isNull();
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+        assertThat(meterRegistry.get("order.concurrency.rejected").tag("name", "test").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("한도를 채워 처리하는 동안 응답 시간이 일정하면 한도를 늘린다")
+    void growsLimitWhileLatencyIsStable() {
+        for (int window = 0; window < 5; window++) {
+            runWindow(10);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("응답 시간이 장기 평균보다 크게 늘면 한도를 줄인다")
+    void shrinksLimitWhenLatencyRises() {
+        runWindow(10);
+        double settled = limiter.getLimit();
+
+        for (int window = 0; window < 5; window++) {
+            runWindow(200);
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(settled);
+        assertThat(limiter.retryAfterSeconds()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서버 오류는 한도를 줄이고, 클라이언트 오류는 한도에 반영하지 않는다")
+    void dropsShrinkLimitAndIgnoresKeepIt() {
+        limiter.onIgnore(limiter.tryAcquire());
+        assertThat(limiter.getLimit()).isEqualTo(10);
+
+        limiter.onDropped(limiter.tryAcquire());
+        assertThat(limiter.getLimit()).isLessThan(10);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("한도의 절반도 쓰지 않는 구간에서는 한도를 늘리지 않는다")
+    void doesNotGrowWhenUnderutilized() {
+        for (int i = 0; i < WINDOW_SAMPLES * 5; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+            limiter.onSuccess(permit, TimeUnit.MILLISECONDS.toNanos(10));
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    // 현재 한도만큼 동시에 잡았다가 같은 응답 시간으로 완료하는 것을 window 하나가 찰 때까지 반복
+    private void runWindow(long rttMillis) {
+        int completed = 0;
+        while (completed < WINDOW_SAMPLES) {
+            List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+            while (completed + permits.size() < WINDOW_SAMPLES && limiter.getInFlight() < (int) limiter.getLimit()) {
+                permits.add(limiter.tryAcquire());
+            }
+            for (AdaptiveConcurrencyLimiter.Permit permit : permits) {
+                limiter.onSuccess(permit, TimeUnit.MILLISECONDS.toNanos(rttMillis));
+            }
+            completed += permits.size();
+        }
+    }
+}
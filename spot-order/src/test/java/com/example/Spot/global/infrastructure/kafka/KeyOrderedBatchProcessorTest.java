@@ -0,0 +1,212 @@
+package com.example.Spot.global.infrastructure.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.Spot.global.infrastructure.codec.EventPayloadCodecs;
+import com.example.Spot.global.infrastructure.codec.JsonEventPayloadCodec;
+import com.example.Spot.global.infrastructure.concurrent.FanOutExecutor;
+import com.example.Spot.global.infrastructure.config.codec.EventCodecProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class KeyOrderedBatchProcessorTest {
+
+    private static final String TOPIC = "spot.payment.succeeded";
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(500);
+
+    record SeqEvent(UUID orderId, int seq) {
+    }
+
+    @Mock private Acknowledgment ack;
+    @Mock private Consumer<?, ?> consumer;
+    @Mock private KafkaOperations<String, byte[]> retryKafkaTemplate;
+    @Captor private ArgumentCaptor<ProducerRecord<String, byte[]>> sent;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private KeyOrderedBatchProcessor processor;
+    private long nextOffset;
+
+    @BeforeEach
+    void setUp() {
+        EventPayloadCodecs codecs = new EventPayloadCodecs(
+                List.of(new JsonEventPayloadCodec(objectMapper)), new EventCodecProperties());
+        processor = new KeyOrderedBatchProcessor(new FanOutExecutor(meterRegistry), codecs, meterRegistry, retryKafkaTemplate);
+        ReflectionTestUtils.setField(processor, "parallelism", 8);
+        ReflectionTestUtils.setField(processor, "deadline", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(processor, "retryBackoff", RETRY_BACKOFF);
+        given(consumer.currentLag(any(TopicPartition.class))).willReturn(OptionalLong.of(3));
+    }
+
+    @Test
+    @DisplayName("주문별로는 offset 순서대로, 주문 간에는 동시에 처리하고 배치 전체를 ack 한다")
+    void keepsPerKeyOrderAndAcksWholeBatch() {
+        List<UUID> orderIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+        for (int seq = 0; seq < 10; seq++) {
+            for (UUID orderId : orderIds) {
+                records.add(record(new SeqEvent(orderId, seq)));
+            }
+        }
+        Map<UUID, List<Integer>> handled = new ConcurrentHashMap<>();
+
+        processor.process("test", records, ack, consumer, SeqEvent.class, SeqEvent::orderId, event -> {
+            sleepRandomly();
+            handled.computeIfAbsent(event.orderId(), id -> Collections.synchronizedList(new ArrayList<>())).add(event.seq());
+        });
+
+        verify(ack).acknowledge();
+        verify(ack, never()).nack(anyInt(), any(Duration.class));
+        assertThat(handled).hasSize(orderIds.size());
+        handled.values().forEach(seqs -> assertThat(seqs).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        assertThat(meterRegistry.get("order.kafka.consumer.lag").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("order.kafka.records").tag("outcome", "success").counter().count()).isEqualTo(40.0);
+    }
+
+    @Test
+    @DisplayName("실패 시 연속 성공 구간까지만 커밋하고, 같은 주문의 뒤 레코드는 처리하지 않는다")
+    void nacksFromFirstFailureAndStopsThatKey() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                record(new SeqEvent(a, 0)),
+                record(new SeqEvent(b, 0)),
+                record(new SeqEvent(a, 1)),
+                record(new SeqEvent(b, 1)),
+                record(new SeqEvent(a, 2)));
+        List<SeqEvent> handled = Collections.synchronizedList(new ArrayList<>());
+
+        processor.process("test", records, ack, consumer, SeqEvent.class, SeqEvent::orderId, event -> {
+            if (event.orderId().equals(a) && event.seq() == 1) {
+                throw new IllegalStateException("signal failed");
+            }
+            handled.add(event);
+        });
+
+        verify(ack).nack(2, RETRY_BACKOFF);
+        verify(ack, never()).acknowledge();
+        assertThat(handled).containsExactlyInAnyOrder(new SeqEvent(a, 0), new SeqEvent(b, 0), new SeqEvent(b, 1));
+    }
+
+    @Test
+    @DisplayName("retry 토픽이 있으면 실패 레코드와 같은 주문의 뒤 레코드를 넘기고 배치 전체를 ack 한다")
+    void forwardsFailedKeyToRetryTopicAndAcks() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                record(new SeqEvent(a, 0)),
+                record(new SeqEvent(b, 0)),
+                record(new SeqEvent(a, 1)),
+                record(new SeqEvent(b, 1)),
+                record(new SeqEvent(a, 2)));
+        given(retryKafkaTemplate.send(any(ProducerRecord.class)))
+                .willReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+
+        processor.process("test", records, ack, consumer, SeqEvent.class, SeqEvent::orderId, event -> {
+            if (event.orderId().equals(a) && event.seq() == 1) {
+                throw new IllegalStateException("signal failed");
+            }
+        }, TOPIC + "-order");
+
+        verify(retryKafkaTemplate, times(2)).send(sent.capture());
+        assertThat(sent.getAllValues()).extracting(ProducerRecord::topic).containsOnly(TOPIC + "-order");
+        assertThat(sent.getAllValues()).extracting(ProducerRecord::value)
+                .containsExactly(records.get(2).value(), records.get(4).value());
+        verify(ack).acknowledge();
+        verify(ack, never()).nack(anyInt(), any(Duration.class));
+        assertThat(meterRegistry.get("order.kafka.records").tag("outcome", "forwarded").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("retry 토픽으로 넘어간 주문도 다음 배치의 레코드는 기다리지 않고 바로 처리한다 (키 순서는 배치 안에서만 보장)")
+    void doesNotHoldBackKeysParkedInRetryTopic() {
+        UUID a = UUID.randomUUID();
+        given(retryKafkaTemplate.send(any(ProducerRecord.class)))
+                .willReturn(CompletableFuture.completedFuture(new SendResult<>(null, null)));
+        List<SeqEvent> handled = Collections.synchronizedList(new ArrayList<>());
+        java.util.function.Consumer<SeqEvent> handler = event -> {
+            if (event.seq() == 0) {
+                throw new IllegalStateException("signal failed");
+            }
+            handled.add(event);
+        };
+
+        processor.process("test", List.of(record(new SeqEvent(a, 0))), ack, consumer,
+                SeqEvent.class, SeqEvent::orderId, handler, TOPIC + "-order");
+        processor.process("test", List.of(record(new SeqEvent(a, 1))), ack, consumer,
+                SeqEvent.class, SeqEvent::orderId, handler, TOPIC + "-order");
+
+        verify(retryKafkaTemplate, times(1)).send(any(ProducerRecord.class));
+        assertThat(handled).containsExactly(new SeqEvent(a, 1));
+        verify(ack, times(2)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 레코드는 건너뛰고 나머지를 처리한다")
+    void skipsUndecodableRecords() {
+        UUID orderId = UUID.randomUUID();
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                new ConsumerRecord<>(TOPIC, 0, nextOffset++, null, new byte[] {0x00, 0x01}),
+                record(new SeqEvent(orderId, 0)));
+        List<SeqEvent> handled = Collections.synchronizedList(new ArrayList<>());
+
+        processor.process("test", records, ack, consumer, SeqEvent.class, SeqEvent::orderId, handled::add);
+
+        verify(ack).acknowledge();
+        assertThat(handled).containsExactly(new SeqEvent(orderId, 0));
+        assertThat(meterRegistry.get("order.kafka.records").tag("outcome", "skipped").counter().count()).isEqualTo(1.0);
+    }
+
+    private ConsumerRecord<String, byte[]> record(SeqEvent event) {
+        try {
+            return new ConsumerRecord<>(TOPIC, 0, nextOffset++, event.orderId().toString(),
+                    objectMapper.writeValueAsBytes(event));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void sleepRandomly() {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.Spot.global.infrastructure.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.BatchAcknowledgingConsumerAwareMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.Spot.global.infrastructure.codec.EventPayloadCodecs;
+import com.example.Spot.global.infrastructure.codec.JsonEventPayloadCodec;
+import com.example.Spot.global.infrastructure.concurrent.FanOutExecutor;
+import com.example.Spot.global.infrastructure.config.codec.EventCodecProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 12 파티션 토픽에서 aggregate_id를 key로 발행하고, 여러 컨슈머 스레드(concurrency)와
+ * 배치 내 동시 처리(KeyOrderedBatchProcessor)로 소비해도 주문별 순서가 유지되는지 확인한다.
+ */
+class PartitionedOrderingTest {
+
+    private static final String TOPIC = "spot.order.ordering-test";
+    private static final int PARTITIONS = 12;
+    private static final int ORDERS = 60;
+    private static final int EVENTS_PER_ORDER = 20;
+
+    record SeqEvent(UUID orderId, int seq) {
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private EmbeddedKafkaKraftBroker broker;
+    private ConcurrentMessageListenerContainer<String, byte[]> container;
+    private KeyOrderedBatchProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS, TOPIC);
+        broker.afterPropertiesSet();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EventPayloadCodecs codecs = new EventPayloadCodecs(
+                List.of(new JsonEventPayloadCodec(objectMapper)), new EventCodecProperties());
+        processor = new KeyOrderedBatchProcessor(new FanOutExecutor(meterRegistry), codecs, meterRegistry, null);
+        ReflectionTestUtils.setField(processor, "parallelism", 8);
+        ReflectionTestUtils.setField(processor, "deadline", Duration.ofSeconds(10));
+        ReflectionTestUtils.setField(processor, "retryBackoff", Duration.ofMillis(100));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (container != null) {
+            container.stop();
+        }
+        broker.destroy();
+    }
+
+    @Test
+    @DisplayName("12 파티션, 컨슈머 4개에서도 주문별 이벤트는 한 파티션에 모이고 발행 순서대로 처리된다")
+    void perOrderOrderingHoldsAcrossPartitions() throws Exception {
+        List<UUID> orderIds = IntStream.range(0, ORDERS).mapToObj(i -> UUID.randomUUID()).toList();
+        Map<UUID, List<Integer>> handled = new ConcurrentHashMap<>();
+        Map<String, Set<Integer>> partitionsByKey = new ConcurrentHashMap<>();
+        Set<String> consumerThreads = ConcurrentHashMap.newKeySet();
+        AtomicInteger total = new AtomicInteger();
+
+        container = listenerContainer((records, ack, consumer) -> {
+            consumerThreads.add(Thread.currentThread().getName());
+            records.forEach(record -> partitionsByKey
+                    .computeIfAbsent(record.key(), key -> ConcurrentHashMap.newKeySet())
+                    .add(record.partition()));
+            processor.process("ordering-test", records, ack, consumer, SeqEvent.class, SeqEvent::orderId, event -> {
+                handled.computeIfAbsent(event.orderId(), id -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(event.seq());
+                total.incrementAndGet();
+            });
+        });
+        container.start();
+
+        publish(orderIds);
+
+        await().atMost(Duration.ofSeconds(60)).until(() -> total.get() == ORDERS * EVENTS_PER_ORDER);
+
+        List<Integer> expected = IntStream.range(0, EVENTS_PER_ORDER).boxed().toList();
+        assertThat(handled).hasSize(ORDERS);
+        handled.values().forEach(seqs -> assertThat(seqs).containsExactlyElementsOf(expected));
+        assertThat(partitionsByKey.values()).allSatisfy(partitions -> assertThat(partitions).hasSize(1));
+        assertThat(partitionsByKey.values().stream().flatMap(Set::stream).distinct().count()).isGreaterThan(1);
+        assertThat(consumerThreads).hasSizeGreaterThan(1);
+    }
+
+    // 주문 간 이벤트를 교차해서 발행. key는 Debezium(JsonConverter, schemas 비활성)이 aggregate_id를 쓰는 형태("<uuid>")와 같다
+    private void publish(List<UUID> orderIds) throws Exception {
+        Map<String, Object> props = Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class,
+                ProducerConfig.LINGER_MS_CONFIG, 5);
+        try (KafkaProducer<String, byte[]> producer = new KafkaProducer<>(props)) {
+            for (int seq = 0; seq < EVENTS_PER_ORDER; seq++) {
+                for (UUID orderId : orderIds) {
+                    producer.send(new ProducerRecord<>(TOPIC, "\"" + orderId + "\"",
+                            objectMapper.writeValueAsBytes(new SeqEvent(orderId, seq))));
+                }
+            }
+            producer.flush();
+        }
+    }
+
+    private ConcurrentMessageListenerContainer<String, byte[]> listenerContainer(
+            BatchAcknowledgingConsumerAwareMessageListener<String, byte[]> listener) {
+        Map<String, Object> props = Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ConsumerConfig.GROUP_ID_CONFIG, "ordering-test",
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+                ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false,
+                ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 50,
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+
+        ContainerProperties containerProperties = new ContainerProperties(TOPIC);
+        containerProperties.setAckMode(ContainerProperties.AckMode.MANUAL);
+        containerProperties.setMessageListener(listener);
+
+        ConcurrentMessageListenerContainer<String, byte[]> listenerContainer = new ConcurrentMessageListenerContainer<>(
+                new DefaultKafkaConsumerFactory<>(props), containerProperties);
+        listenerContainer.setConcurrency(4);
+        return listenerContainer;
+    }
+}
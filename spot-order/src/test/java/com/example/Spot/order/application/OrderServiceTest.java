@@ -3,15 +3,17 @@ package com.example.Spot.order.application;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,21 +23,41 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.example.Spot.global.feign.PaymentClient;
 import com.example.Spot.global.feign.StoreClient;
+import com.example.Spot.global.feign.dto.MenuResponse;
 import com.example.Spot.global.feign.dto.StoreResponse;
 import com.example.Spot.order.application.service.OrderServiceImpl;
 import com.example.Spot.order.domain.entity.OrderEntity;
 import com.example.Spot.order.domain.enums.OrderStatus;
 import com.example.Spot.order.domain.exception.DuplicateOrderException;
+import com.example.Spot.order.domain.exception.IdempotencyKeyInProgressException;
+import com.example.Spot.order.domain.exception.PickupSlotFullException;
 import com.example.Spot.order.domain.repository.OrderItemOptionRepository;
 import com.example.Spot.order.domain.repository.OrderRepository;
 import com.example.Spot.order.infrastructure.aop.OrderValidationContext;
+import com.example.Spot.order.infrastructure.guard.OrderFingerprintGuard;
+import com.example.Spot.order.infrastructure.guard.OrderIdempotencyGuard;
+import com.example.Spot.order.infrastructure.guard.PickupSlotGuard;
+import com.example.Spot.order.infrastructure.metrics.OrderStageTimer;
 import com.example.Spot.order.infrastructure.producer.OrderEventProducer;
+import com.example.Spot.order.infrastructure.temporal.workflow.OrderWorkflow;
 import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
+import com.example.Spot.order.presentation.dto.request.OrderItemRequestDto;
+import com.example.Spot.order.presentation.dto.response.OrderContextDto;
+import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.temporal.api.common.v1.WorkflowExecution;
+import io.temporal.client.WorkflowClient;
+import io.temporal.client.WorkflowExecutionAlreadyStarted;
+import io.temporal.client.WorkflowOptions;
+import io.temporal.workflow.Functions;
 
 @ExtendWith(MockitoExtension.class)
 class OrderServiceTest {
@@ -46,43 +68,135 @@ class OrderServiceTest {
     @Mock private PaymentClient paymentClient;
     @Mock private StoreClient storeClient;
     @Mock private OrderEventProducer orderEventProducer; // 아웃박스 관련은 여기서 Mock!
+    @Mock private OrderFingerprintGuard orderFingerprintGuard;
+    @Mock private PickupSlotGuard pickupSlotGuard;
+    @Mock private WorkflowClient workflowClient;
+    @Mock private OrderWorkflow orderWorkflow;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Spy private OrderStageTimer orderStageTimer = new OrderStageTimer(meterRegistry);
     
     @InjectMocks
     private OrderServiceImpl orderService;
 
     @Test
-    @DisplayName("주문 생성 및 이벤트 발행 호출 확인")
+    @DisplayName("검증 컨텍스트로 주문 워크플로우를 시작하고 결제 대기 응답을 반환한다")
     void createOrderSuccess() {
         // 1. 가짜 데이터 준비
         UUID storeId = UUID.randomUUID();
+        UUID menuId = UUID.randomUUID();
+        LocalDateTime pickupTime = LocalDateTime.now().plusHours(1);
         StoreResponse mockStore = StoreResponse.builder()
                 .id(storeId)
                 .name("가게이름")
                 .build();
+        OrderContextDto context = OrderContextDto.builder()
+                .store(mockStore)
+                .menuMap(Map.of(menuId, MenuResponse.builder().id(menuId).storeId(storeId).price(4500).build()))
+                .optionMap(Map.of())
+                .build();
 
-        // ⭐ 중요: Request DTO에 필수 값들을 채워줍니다.
         OrderCreateRequestDto request = new OrderCreateRequestDto();
-
-        // 만약 필드에 직접 접근이 안된다면 ReflectionTestUtils를 사용하세요.
-        ReflectionTestUtils.setField(request, "pickupTime", LocalDateTime.now().plusHours(1));
+        ReflectionTestUtils.setField(request, "storeId", storeId);
+        ReflectionTestUtils.setField(request, "pickupTime", pickupTime);
         ReflectionTestUtils.setField(request, "needDisposables", true);
-        ReflectionTestUtils.setField(request, "orderItems", List.of()); // 아이템 리스트도 빈 리스트라도 필요함
+        ReflectionTestUtils.setField(request, "orderItems",
+                List.of(OrderItemRequestDto.builder().menuId(menuId).quantity(2).build()));
 
         // 2. 가짜 동작(given) 설정
-        given(orderRepository.findActiveOrdersByUserAndStoreAndPickupTime(any(), any(), any()))
-                .willReturn(List.of());
-        given(orderRepository.save(any())).willAnswer(inv -> inv.getArgument(0));
+        given(orderFingerprintGuard.claim(any(), eq(1), eq(storeId), any())).willReturn(true);
+        given(pickupSlotGuard.reserve(any(), eq(storeId), eq(pickupTime))).willReturn(true);
+        given(workflowClient.newWorkflowStub(eq(OrderWorkflow.class), any(WorkflowOptions.class))).willReturn(orderWorkflow);
 
-        // 3. Static 컨텍스트 모킹
-        try (MockedStatic<OrderValidationContext> mockedContext = mockStatic(OrderValidationContext.class)) {
-            mockedContext.when(OrderValidationContext::getStoreResponse).thenReturn(mockStore);
+        // 3. Static 컨텍스트 / 워크플로우 시작 모킹
+        try (MockedStatic<OrderValidationContext> mockedContext = mockStatic(OrderValidationContext.class);
+             MockedStatic<WorkflowClient> mockedWorkflowClient = mockStatic(WorkflowClient.class)) {
+            mockedContext.when(OrderValidationContext::getOrderContext).thenReturn(context);
 
             // when
-            orderService.createOrder(request, 1);
+            OrderResponseDto response = orderService.createOrder(request, 1, null);
 
             // then
-            verify(orderRepository).save(any());
-            verify(orderEventProducer).reserveOrderCreated(any(), any(), anyLong());
+            assertThat(response.getId()).isNotNull();
+            assertThat(response.getUserId()).isEqualTo(1);
+            assertThat(response.getStoreId()).isEqualTo(storeId);
+            assertThat(response.getStoreName()).isEqualTo("가게이름");
+            assertThat(response.getOrderStatus()).isEqualTo(OrderStatus.PAYMENT_PENDING);
+            assertThat(response.getTotalAmount()).isEqualByComparingTo("9000");
+            mockedWorkflowClient.verify(() -> WorkflowClient.start(
+                    any(Functions.Proc4.class), eq(response.getId()), eq(1), eq(request), eq(context)));
+        }
+    }
+
+    @Test
+    @DisplayName("저장된 응답 없이 같은 Idempotency-Key로 재시도하면 선점/워크플로우 없이 DB의 기존 주문으로 응답한다")
+    void idempotentReplayFromExistingOrder() {
+        UUID storeId = UUID.randomUUID();
+        LocalDateTime pickupTime = LocalDateTime.now().plusHours(1);
+        OrderCreateRequestDto request = OrderCreateRequestDto.builder()
+                .storeId(storeId).pickupTime(pickupTime).orderItems(List.of()).build();
+        UUID orderId = OrderIdempotencyGuard.orderIdFor(1, "retry-key-1");
+        OrderEntity existing = OrderEntity.builder()
+                .id(orderId).userId(1).storeId(storeId).orderNumber("ORD-IDEM-001").pickupTime(pickupTime).build();
+        given(orderRepository.findByIdWithOrderItems(orderId)).willReturn(Optional.of(existing));
+
+        try (MockedStatic<OrderValidationContext> mockedContext = mockStatic(OrderValidationContext.class)) {
+            mockedContext.when(OrderValidationContext::getOrderContext)
+                    .thenReturn(OrderContextDto.builder().store(StoreResponse.builder().id(storeId).build()).build());
+
+            OrderResponseDto response = orderService.createOrder(request, 1, "retry-key-1");
+
+            assertThat(response.getId()).isEqualTo(orderId);
+            assertThat(response.getOrderNumber()).isEqualTo("ORD-IDEM-001");
+            verifyNoInteractions(orderFingerprintGuard, pickupSlotGuard, workflowClient);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key로 기존 주문과 다른 장바구니를 보내면 IllegalArgumentException이 발생한다")
+    void idempotentReplayWithDifferentCartFails() {
+        UUID storeId = UUID.randomUUID();
+        LocalDateTime pickupTime = LocalDateTime.now().plusHours(1);
+        OrderCreateRequestDto request = OrderCreateRequestDto.builder()
+                .storeId(storeId).pickupTime(pickupTime.plusMinutes(30)).orderItems(List.of()).build();
+        UUID orderId = OrderIdempotencyGuard.orderIdFor(1, "retry-key-1");
+        OrderEntity existing = OrderEntity.builder()
+                .userId(1).storeId(storeId).orderNumber("ORD-IDEM-002").pickupTime(pickupTime).build();
+        given(orderRepository.findByIdWithOrderItems(orderId)).willReturn(Optional.of(existing));
+
+        try (MockedStatic<OrderValidationContext> mockedContext = mockStatic(OrderValidationContext.class)) {
+            mockedContext.when(OrderValidationContext::getOrderContext)
+                    .thenReturn(OrderContextDto.builder().store(StoreResponse.builder().id(storeId).build()).build());
+
+            assertThrows(IllegalArgumentException.class, () -> orderService.createOrder(request, 1, "retry-key-1"));
+            verifyNoInteractions(orderFingerprintGuard, pickupSlotGuard, workflowClient);
+        }
+    }
+
+    @Test
+    @DisplayName("워크플로우는 이미 있지만 주문이 아직 저장되지 않았으면 요청 기준 응답 대신 처리 중 예외가 발생한다")
+    void idempotentRetryWhileWorkflowStartingFails() {
+        UUID storeId = UUID.randomUUID();
+        LocalDateTime pickupTime = LocalDateTime.now().plusHours(1);
+        OrderCreateRequestDto request = OrderCreateRequestDto.builder()
+                .storeId(storeId).pickupTime(pickupTime).orderItems(List.of()).build();
+        UUID orderId = OrderIdempotencyGuard.orderIdFor(1, "retry-key-1");
+        given(orderRepository.findByIdWithOrderItems(orderId)).willReturn(Optional.empty());
+        given(orderFingerprintGuard.claim(eq(orderId), eq(1), eq(storeId), any())).willReturn(true);
+        given(pickupSlotGuard.reserve(orderId, storeId, pickupTime)).willReturn(true);
+        given(workflowClient.newWorkflowStub(eq(OrderWorkflow.class), any(WorkflowOptions.class))).willReturn(orderWorkflow);
+
+        try (MockedStatic<OrderValidationContext> mockedContext = mockStatic(OrderValidationContext.class);
+             MockedStatic<WorkflowClient> mockedWorkflowClient = mockStatic(WorkflowClient.class)) {
+            mockedContext.when(OrderValidationContext::getOrderContext)
+                    .thenReturn(OrderContextDto.builder().store(StoreResponse.builder().id(storeId).build()).build());
+            mockedWorkflowClient.when(() -> WorkflowClient.start(any(Functions.Proc4.class), any(), any(), any(), any()))
+                    .thenThrow(new WorkflowExecutionAlreadyStarted(
+                            WorkflowExecution.newBuilder().setWorkflowId(orderId.toString()).build(), "OrderWorkflow", null));
+
+            assertThrows(IdempotencyKeyInProgressException.class, () -> orderService.createOrder(request, 1, "retry-key-1"));
+            // 선점은 같은 주문 ID(기존 워크플로우)의 것이므로 해제하지 않음
+            verify(orderFingerprintGuard, never()).release(any());
+            verify(pickupSlotGuard, never()).release(any());
         }
     }
 
@@ -112,7 +226,7 @@ class OrderServiceTest {
         // then
         // 진짜 서비스 로직인 completePayment()가 호출되면 PENDING으로 바뀌어야 함
         assertThat(spyOrder.getOrderStatus()).isEqualTo(OrderStatus.PENDING);
-        verify(orderEventProducer).reserveOrderPending(any(), eq(orderId));
+        verify(orderEventProducer).reserveOrderPending(any(), eq(orderId), any());
     }
 
     @Test
@@ -152,30 +266,73 @@ class OrderServiceTest {
         LocalDateTime pickupTime = LocalDateTime.now().plusHours(1);
         StoreResponse mockStore = StoreResponse.builder().id(storeId).build();
 
-        // 이미 존재하는 주문이 있다고 가정 (중복 조건)
-        OrderEntity existingOrder = OrderEntity.builder()
-                .userId(1).storeId(storeId).orderNumber("OLD-1").pickupTime(pickupTime).build();
-
-        // 2. 가짜 동작(given) 설정
-        given(orderRepository.findActiveOrdersByUserAndStoreAndPickupTime(any(), any(), any()))
-                .willReturn(List.of(existingOrder));
-
         OrderCreateRequestDto request = new OrderCreateRequestDto();
         ReflectionTestUtils.setField(request, "pickupTime", pickupTime);
-        ReflectionTestUtils.setField(request, "orderItems", List.of()); // 아이템 비교를 위해 빈 리스트 주입
+        ReflectionTestUtils.setField(request, "orderItems", List.of()); // fingerprint 계산을 위해 빈 리스트 주입
 
-        // 3. ⭐ Static 컨텍스트 모킹 추가
+        // 2. ⭐ Static 컨텍스트 모킹
         try (MockedStatic<OrderValidationContext> mockedContext = mockStatic(OrderValidationContext.class)) {
-            mockedContext.when(OrderValidationContext::getStoreResponse).thenReturn(mockStore);
+            mockedContext.when(OrderValidationContext::getOrderContext)
+                    .thenReturn(OrderContextDto.builder().store(mockStore).build());
+            // 같은 장바구니 fingerprint가 이미 선점되어 있음
+            given(orderFingerprintGuard.claim(any(), eq(1), eq(storeId), any())).willReturn(false);
 
             // when & then
             // 이제 store.getId()가 null이 아니므로 중복 체크 로직까지 무사히 진입합니다.
             assertThrows(DuplicateOrderException.class, () -> {
-                orderService.createOrder(request, 1);
+                orderService.createOrder(request, 1, null);
             });
         }
     }
     
+    @Test
+    @DisplayName("픽업 시간대 수용량이 차면 다음 빈 시간대와 함께 PickupSlotFullException이 발생하고 fingerprint를 되돌린다")
+    void pickupSlotFullTest() {
+        UUID storeId = UUID.randomUUID();
+        LocalDateTime pickupTime = LocalDateTime.now().plusHours(1);
+        LocalDateTime nextSlot = pickupTime.plusMinutes(15);
+        StoreResponse mockStore = StoreResponse.builder().id(storeId).build();
+
+        OrderCreateRequestDto request = new OrderCreateRequestDto();
+        ReflectionTestUtils.setField(request, "pickupTime", pickupTime);
+        ReflectionTestUtils.setField(request, "orderItems", List.of());
+
+        try (MockedStatic<OrderValidationContext> mockedContext = mockStatic(OrderValidationContext.class)) {
+            mockedContext.when(OrderValidationContext::getOrderContext)
+                    .thenReturn(OrderContextDto.builder().store(mockStore).build());
+            given(orderFingerprintGuard.claim(any(), eq(1), eq(storeId), any())).willReturn(true);
+            given(pickupSlotGuard.reserve(any(), eq(storeId), eq(pickupTime))).willReturn(false);
+            given(pickupSlotGuard.nextAvailableSlot(storeId, pickupTime)).willReturn(nextSlot);
+
+            PickupSlotFullException exception = assertThrows(PickupSlotFullException.class,
+                    () -> orderService.createOrder(request, 1, null));
+
+            assertThat(exception.getNextAvailablePickupTime()).isEqualTo(nextSlot);
+            verify(orderFingerprintGuard).release(any());
+            assertThat(meterRegistry.get("order.stage").tag("stage", "pickup-slot").timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("픽업 시간대 예약 중 Redis 오류가 나도 선점한 fingerprint를 되돌린다")
+    void pickupSlotReserveErrorReleasesFingerprint() {
+        UUID storeId = UUID.randomUUID();
+        LocalDateTime pickupTime = LocalDateTime.now().plusHours(1);
+        OrderCreateRequestDto request = OrderCreateRequestDto.builder()
+                .storeId(storeId).pickupTime(pickupTime).orderItems(List.of()).build();
+
+        try (MockedStatic<OrderValidationContext> mockedContext = mockStatic(OrderValidationContext.class)) {
+            mockedContext.when(OrderValidationContext::getOrderContext)
+                    .thenReturn(OrderContextDto.builder().store(StoreResponse.builder().id(storeId).build()).build());
+            given(orderFingerprintGuard.claim(any(), eq(1), eq(storeId), any())).willReturn(true);
+            given(pickupSlotGuard.reserve(any(), eq(storeId), eq(pickupTime)))
+                    .willThrow(new RedisConnectionFailureException("connection refused"));
+
+            assertThrows(RedisConnectionFailureException.class, () -> orderService.createOrder(request, 1, null));
+            verify(orderFingerprintGuard).release(any());
+        }
+    }
+
     @Test
     @DisplayName("사장님이 조리를 시작하면 상태가 COOKING으로 변경된다")
     void startCookingTest() {
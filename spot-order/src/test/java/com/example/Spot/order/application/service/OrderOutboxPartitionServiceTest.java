@@ -0,0 +1,58 @@
+package com.example.Spot.order.application.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxPartitionServiceTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private TransactionTemplate transactionTemplate;
+    @InjectMocks private OrderOutboxPartitionService partitionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(partitionService, "retentionDays", 7);
+        ReflectionTestUtils.setField(partitionService, "premakeDays", 1);
+        ReflectionTestUtils.setField(partitionService, "publication", "order_outbox_pub");
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        given(jdbcTemplate.queryForObject(startsWith("SELECT pg_try_advisory_xact_lock"), eq(Boolean.class), any()))
+                .willReturn(true);
+    }
+
+    @Test
+    @DisplayName("payload가 TEXT인 기존 일반 테이블은 BYTEA로 바꾼 뒤 파티션으로 붙인다")
+    void convertsTextPayloadBeforeAttachingLegacyTable() {
+        given(jdbcTemplate.query(startsWith("SELECT c.relkind"), any(ResultSetExtractor.class), eq("p_order_outbox")))
+                .willReturn("r");
+        given(jdbcTemplate.query(startsWith("SELECT data_type"), any(ResultSetExtractor.class), eq("p_order_outbox")))
+                .willReturn("text");
+
+        partitionService.maintain();
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).execute(contains("ALTER COLUMN payload TYPE BYTEA"));
+        order.verify(jdbcTemplate).execute(contains("RENAME TO p_order_outbox_"));
+        order.verify(jdbcTemplate).execute(contains("PARTITION BY RANGE (created_at)"));
+        order.verify(jdbcTemplate).execute(contains("ATTACH PARTITION"));
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.Spot.order.domain.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import com.example.Spot.order.domain.enums.OrderStatus;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * 주문 집계 INSERT가 테이블별 JDBC batch로 나가는지 확인한다.
+ * Spring 컨텍스트 없이 운영 설정(config/spot-order.yml)과 같은 batch 옵션으로 Hibernate만 띄워
+ * 실제로 준비(prepare)된 statement 수를 센다.
+ */
+class OrderAggregateBatchInsertTest {
+
+    private static final int ITEM_COUNT = 10;
+
+    private EmbeddedDatabase database;
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+
+        // created_at/created_by는 Spring Auditing이 채우므로 여기서는 NULL 허용 (CHECK_NULLABILITY=false와 짝)
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        jdbc.execute("""
+                CREATE TABLE p_order (
+                    id UUID PRIMARY KEY, user_id INT, store_id UUID, order_number VARCHAR(50) UNIQUE,
+                    need_disposables BOOLEAN, request TEXT, pickup_time TIMESTAMP, order_status VARCHAR(20),
+                    payment_completed_at TIMESTAMP, payment_failed_at TIMESTAMP, accepted_at TIMESTAMP,
+                    rejected_at TIMESTAMP, cooking_started_at TIMESTAMP, cooking_completed_at TIMESTAMP,
+                    picked_up_at TIMESTAMP, cancelled_at TIMESTAMP, cancelled_by VARCHAR(20),
+                    estimated_time INT, reason TEXT, created_at TIMESTAMP, created_by INT)
+                """);
+        jdbc.execute("""
+                CREATE TABLE p_order_item (
+                    id UUID PRIMARY KEY, order_id UUID, menu_id UUID, menu_name VARCHAR(255),
+                    menu_price DECIMAL(10, 2), quantity INT, created_at TIMESTAMP, created_by INT)
+                """);
+        jdbc.execute("""
+                CREATE TABLE p_order_item_option (
+                    id UUID PRIMARY KEY, order_item_id UUID, menu_option_id UUID, option_name VARCHAR(50),
+                    option_detail VARCHAR(50), option_price DECIMAL(10, 2), created_at TIMESTAMP, created_by INT)
+                """);
+        jdbc.execute("""
+                CREATE TABLE p_order_outbox (
+                    id UUID PRIMARY KEY, aggregate_type VARCHAR(255), aggregate_id UUID,
+                    event_type VARCHAR(255), payload VARBINARY, created_at TIMESTAMP, created_by INT)
+                """);
+
+        registry = new StandardServiceRegistryBuilder()
+                .applySettings(Map.of(
+                        AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, database,
+                        AvailableSettings.HBM2DDL_AUTO, "none",
+                        AvailableSettings.CHECK_NULLABILITY, "false",
+                        AvailableSettings.STATEMENT_BATCH_SIZE, "50",
+                        AvailableSettings.ORDER_INSERTS, "true",
+                        AvailableSettings.ORDER_UPDATES, "true",
+                        AvailableSettings.GENERATE_STATISTICS, "true"))
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(OrderEntity.class)
+                .addAnnotatedClass(OrderItemEntity.class)
+                .addAnnotatedClass(OrderItemOptionEntity.class)
+                .addAnnotatedClass(OrderOutboxEntity.class)
+                .buildMetadata()
+                .buildSessionFactory();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+        database.shutdown();
+    }
+
+    @Test
+    @DisplayName("아이템 10개 주문 + 아웃박스 저장 시 테이블별 batch INSERT 4개만 실행된다")
+    void orderAggregateIsInsertedInBatches() {
+        Statistics statistics = sessionFactory.getStatistics();
+        UUID orderId = UUID.randomUUID();
+
+        try (EntityManager em = sessionFactory.createEntityManager()) {
+            SimpleJpaRepository<OrderEntity, UUID> orderRepository = new SimpleJpaRepository<>(OrderEntity.class, em);
+            SimpleJpaRepository<OrderOutboxEntity, UUID> outboxRepository = new SimpleJpaRepository<>(OrderOutboxEntity.class, em);
+
+            em.getTransaction().begin();
+            statistics.clear();
+
+            // OrderActivityImpl.insertOrder와 같은 순서: 주문(cascade 아이템/옵션) save → 아웃박스 save → flush
+            orderRepository.save(newOrder(orderId));
+            outboxRepository.save(OrderOutboxEntity.builder()
+                    .aggregateType("ORDER")
+                    .aggregateId(orderId)
+                    .eventType("spot.order.created")
+                    .payload("{}".getBytes(StandardCharsets.UTF_8))
+                    .build());
+            em.getTransaction().commit();
+        }
+
+        // 주문 1 + 아이템 10 + 옵션 10 + 아웃박스 1 = 22행
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2L + ITEM_COUNT * 2);
+        // 할당 id인 주문도 merge(SELECT 선행) 없이 persist되고, 테이블별로 statement 하나씩만 준비됨
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4L);
+        assertThat(new JdbcTemplate(database).queryForObject(
+                "SELECT COUNT(*) FROM p_order_item WHERE order_id = ?", Integer.class, orderId))
+                .isEqualTo(ITEM_COUNT);
+    }
+
+    private OrderEntity newOrder(UUID orderId) {
+        OrderEntity order = OrderEntity.builder()
+                .id(orderId)
+                .storeId(UUID.randomUUID())
+                .userId(1)
+                .orderNumber("ORD-20260101-0001")
+                .pickupTime(LocalDateTime.now().plusHours(1))
+                .orderStatus(OrderStatus.PAYMENT_PENDING)
+                .build();
+
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            OrderItemEntity item = OrderItemEntity.builder()
+                    .menuId(UUID.randomUUID())
+                    .menuName("메뉴" + i)
+                    .menuPrice(new BigDecimal("5000"))
+                    .quantity(1)
+                    .build();
+            item.addOrderItemOption(OrderItemOptionEntity.builder()
+                    .menuOptionId(UUID.randomUUID())
+                    .optionName("옵션" + i)
+                    .optionPrice(new BigDecimal("500"))
+                    .build());
+            order.addOrderItem(item);
+        }
+        return order;
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.Spot.order.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import com.example.Spot.order.domain.enums.OrderStatus;
+import com.example.Spot.order.presentation.dto.response.OrderItemResponseDto;
+import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
+
+class OrderQueryRepositoryTest {
+
+    private static final int USER_ID = 1;
+    private static final int ORDER_COUNT = 25;
+
+    private final AtomicInteger statementCount = new AtomicInteger();
+
+    private EmbeddedDatabase database;
+    private OrderQueryRepository orderQueryRepository;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        jdbc.execute("""
+                CREATE TABLE p_order (
+                    id UUID PRIMARY KEY, user_id INT, store_id UUID, order_number VARCHAR(50),
+                    need_disposables BOOLEAN, request VARCHAR(255), pickup_time TIMESTAMP,
+                    order_status VARCHAR(30), estimated_time INT, reason VARCHAR(255), cancelled_by VARCHAR(20),
+                    payment_completed_at TIMESTAMP, payment_failed_at TIMESTAMP, accepted_at TIMESTAMP,
+                    rejected_at TIMESTAMP, cooking_started_at TIMESTAMP, cooking_completed_at TIMESTAMP,
+                    picked_up_at TIMESTAMP, cancelled_at TIMESTAMP, created_at TIMESTAMP)
+                """);
+        jdbc.execute("""
+                CREATE TABLE p_order_item (
+                    id UUID PRIMARY KEY, order_id UUID, menu_id UUID, menu_name VARCHAR(50),
+                    menu_price DECIMAL(11, 2), quantity INT, created_at TIMESTAMP)
+                """);
+        jdbc.execute("""
+                CREATE TABLE p_order_item_option (
+                    id UUID PRIMARY KEY, order_item_id UUID, menu_option_id UUID, option_name VARCHAR(50),
+                    option_detail VARCHAR(50), option_price DECIMAL(11, 2), created_at TIMESTAMP)
+                """);
+
+        UUID storeId = UUID.randomUUID();
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 12, 0);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            UUID orderId = UUID.randomUUID();
+            LocalDateTime createdAt = base.plusMinutes(i);
+            jdbc.update("INSERT INTO p_order (id, user_id, store_id, order_number, need_disposables, " +
+                            "pickup_time, order_status, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    orderId, USER_ID, storeId, "ORD-20260101-" + String.format("%04d", i + 1), false,
+                    createdAt.plusMinutes(30), OrderStatus.COMPLETED.name(), createdAt);
+
+            // 주문당 아이템 2개, 첫 아이템에만 옵션 2개
+            for (int j = 0; j < 2; j++) {
+                UUID itemId = UUID.randomUUID();
+                jdbc.update("INSERT INTO p_order_item VALUES (?, ?, ?, ?, ?, ?, ?)",
+                        itemId, orderId, UUID.randomUUID(), "메뉴" + j, new BigDecimal("5000"), 2,
+                        createdAt.plusSeconds(j));
+                if (j == 0) {
+                    for (int k = 0; k < 2; k++) {
+                        jdbc.update("INSERT INTO p_order_item_option VALUES (?, ?, ?, ?, ?, ?, ?)",
+                                UUID.randomUUID(), itemId, UUID.randomUUID(), "옵션" + k, "상세",
+                                new BigDecimal("500"), createdAt.plusSeconds(k));
+                    }
+                }
+            }
+        }
+
+        orderQueryRepository = new OrderQueryRepository(new NamedParameterJdbcTemplate(countingDataSource(database)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @ParameterizedTest(name = "page={0}, size={1}")
+    @CsvSource({"0, 5", "1, 5", "0, 20", "1, 20"})
+    @DisplayName("페이지 크기/번호와 관계없이 페이지당 2개의 SQL만 실행된다")
+    void findPageExecutesTwoStatements(int page, int size) {
+        Page<OrderResponseDto> result = orderQueryRepository.findPage(
+                OrderSearchCondition.builder().userId(USER_ID).build(),
+                PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        assertThat(statementCount.get()).isEqualTo(2);
+        assertThat(result.getTotalElements()).isEqualTo(ORDER_COUNT);
+        assertThat(result.getContent()).hasSize(Math.min(size, ORDER_COUNT - page * size));
+        assertThat(result.getContent()).allSatisfy(order -> {
+            assertThat(order.getOrderItems()).hasSize(2);
+            // (5000 + 1000) * 2 + 5000 * 2
+            assertThat(order.getTotalAmount()).isEqualByComparingTo("22000");
+        });
+        OrderItemResponseDto firstItem = result.getContent().get(0).getOrderItems().get(0);
+        assertThat(firstItem.getOptions()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("keyset 조회도 2개의 SQL로 이어지는 페이지를 빠짐없이 반환한다")
+    void findAfterExecutesTwoStatements() {
+        OrderSearchCondition condition = OrderSearchCondition.builder().userId(USER_ID).build();
+
+        List<OrderResponseDto> first = orderQueryRepository.findAfter(condition, null, null, 10);
+        assertThat(statementCount.getAndSet(0)).isEqualTo(2);
+
+        OrderResponseDto last = first.get(first.size() - 1);
+        List<OrderResponseDto> second = orderQueryRepository.findAfter(
+                condition, last.getCreatedAt(), last.getId(), 10);
+        assertThat(statementCount.get()).isEqualTo(2);
+
+        assertThat(first).hasSize(10);
+        assertThat(second).hasSize(10);
+        assertThat(second.get(0).getCreatedAt()).isBefore(last.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 페이지는 빈 결과와 함께 COUNT 쿼리로 전체 건수를 채운다")
+    void findPageOutOfRangeFallsBackToCount() {
+        Page<OrderResponseDto> result = orderQueryRepository.findPage(
+                OrderSearchCondition.builder().userId(USER_ID).build(), PageRequest.of(10, 10));
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.getTotalElements()).isEqualTo(ORDER_COUNT);
+        assertThat(statementCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이력 조회는 보관 테이블로 옮겨진 주문과 아이템/옵션까지 함께 반환한다")
+    void findPageIncludesArchivedOrders() {
+        // 가장 오래된 10건을 보관 테이블로 이동
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        LocalDateTime cutoff = LocalDateTime.of(2026, 1, 1, 12, 10);
+        for (String table : List.of("p_order", "p_order_item", "p_order_item_option")) {
+            jdbc.execute("CREATE TABLE " + table + "_archive AS SELECT * FROM " + table + " WITH NO DATA");
+        }
+        String archivedOrders = "SELECT id FROM p_order WHERE created_at < ?";
+        String archivedItems = "SELECT id FROM p_order_item WHERE order_id IN (" + archivedOrders + ")";
+        jdbc.update("INSERT INTO p_order_item_option_archive SELECT * FROM p_order_item_option "
+                + "WHERE order_item_id IN (" + archivedItems + ")", cutoff);
+        jdbc.update("DELETE FROM p_order_item_option WHERE order_item_id IN (" + archivedItems + ")", cutoff);
+        jdbc.update("INSERT INTO p_order_item_archive SELECT * FROM p_order_item "
+                + "WHERE order_id IN (" + archivedOrders + ")", cutoff);
+        jdbc.update("DELETE FROM p_order_item WHERE order_id IN (" + archivedOrders + ")", cutoff);
+        jdbc.update("INSERT INTO p_order_archive SELECT * FROM p_order WHERE created_at < ?", cutoff);
+        jdbc.update("DELETE FROM p_order WHERE created_at < ?", cutoff);
+
+        Page<OrderResponseDto> hot = orderQueryRepository.findPage(
+                OrderSearchCondition.builder().userId(USER_ID).build(), PageRequest.of(0, 30));
+        Page<OrderResponseDto> history = orderQueryRepository.findPage(
+                OrderSearchCondition.builder().userId(USER_ID).includeArchive(true).build(), PageRequest.of(0, 30));
+
+        assertThat(hot.getTotalElements()).isEqualTo(ORDER_COUNT - 10);
+        assertThat(history.getTotalElements()).isEqualTo(ORDER_COUNT);
+        assertThat(history.getContent()).allSatisfy(order -> {
+            assertThat(order.getOrderItems()).hasSize(2);
+            assertThat(order.getTotalAmount()).isEqualByComparingTo("22000");
+        });
+        assertThat(history.getContent().get(ORDER_COUNT - 1).getCreatedAt()).isBefore(cutoff);
+    }
+
+    // Connection.prepareStatement / createStatement 호출 수를 센다
+    private DataSource countingDataSource(DataSource target) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection connection = super.getConnection();
+                return (Connection) Proxy.newProxyInstance(
+                        Connection.class.getClassLoader(),
+                        new Class<?>[]{Connection.class},
+                        (proxy, method, args) -> {
+                            String name = method.getName();
+                            if (name.equals("prepareStatement") || name.equals("createStatement")) {
+                                statementCount.incrementAndGet();
+                            }
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                        });
+            }
+        };
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.Spot.order.infrastructure.aop;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.Spot.order.domain.enums.OrderStatus;
+import com.example.Spot.order.infrastructure.guard.OrderIdempotencyGuard;
+import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
+import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIdempotencyAspectTest {
+
+    private static final String KEY = "retry-key-1";
+
+    @Mock private OrderIdempotencyGuard orderIdempotencyGuard;
+    @Mock private ProceedingJoinPoint joinPoint;
+    @Mock private IdempotentOrderCreation annotation;
+    @InjectMocks private OrderIdempotencyAspect aspect;
+
+    private final OrderCreateRequestDto request = OrderCreateRequestDto.builder().storeId(UUID.randomUUID()).build();
+
+    @Test
+    @DisplayName("같은 key로 이미 처리된 요청은 주문 생성(검증 포함) 없이 저장된 응답을 돌려준다")
+    void replaysStoredResponse() throws Throwable {
+        OrderResponseDto stored = OrderResponseDto.fromId(UUID.randomUUID(), OrderStatus.PAYMENT_PENDING);
+        given(joinPoint.getArgs()).willReturn(new Object[]{request, 1, KEY});
+        given(orderIdempotencyGuard.claim(1, KEY, request)).willReturn(Optional.of(stored));
+
+        Object result = aspect.handleIdempotentOrderCreation(joinPoint, annotation);
+
+        assertThat(result).isSameAs(stored);
+        verify(joinPoint, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("처음 요청은 주문을 생성하고 응답을 저장한다")
+    void storesFirstResponse() throws Throwable {
+        OrderResponseDto created = OrderResponseDto.fromId(UUID.randomUUID(), OrderStatus.PAYMENT_PENDING);
+        given(joinPoint.getArgs()).willReturn(new Object[]{request, 1, KEY});
+        given(orderIdempotencyGuard.claim(1, KEY, request)).willReturn(Optional.empty());
+        given(joinPoint.proceed()).willReturn(created);
+
+        Object result = aspect.handleIdempotentOrderCreation(joinPoint, annotation);
+
+        assertThat(result).isSameAs(created);
+        verify(orderIdempotencyGuard).complete(1, KEY, request, created);
+    }
+
+    @Test
+    @DisplayName("주문 생성이 실패하면 같은 key로 다시 시도할 수 있도록 선점을 해제한다")
+    void releasesOnFailure() throws Throwable {
+        given(joinPoint.getArgs()).willReturn(new Object[]{request, 1, KEY});
+        given(orderIdempotencyGuard.claim(1, KEY, request)).willReturn(Optional.empty());
+        given(joinPoint.proceed()).willThrow(new IllegalArgumentException("존재하지 않는 가게입니다."));
+
+        assertThrows(IllegalArgumentException.class, () -> aspect.handleIdempotentOrderCreation(joinPoint, annotation));
+
+        verify(orderIdempotencyGuard).release(1, KEY);
+        verify(orderIdempotencyGuard, never()).complete(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key가 없으면 그대로 주문을 생성한다")
+    void proceedsWithoutKey() throws Throwable {
+        given(joinPoint.getArgs()).willReturn(new Object[]{request, 1, null});
+
+        aspect.handleIdempotentOrderCreation(joinPoint, annotation);
+
+        verify(joinPoint).proceed();
+        verifyNoInteractions(orderIdempotencyGuard);
+    }
+
+    @Test
+    @DisplayName("같은 사용자와 key는 항상 같은 주문 ID, 다른 사용자는 다른 주문 ID가 된다")
+    void derivesOrderIdFromKey() {
+        assertThat(OrderIdempotencyGuard.orderIdFor(1, KEY)).isEqualTo(OrderIdempotencyGuard.orderIdFor(1, KEY));
+        assertThat(OrderIdempotencyGuard.orderIdFor(1, KEY)).isNotEqualTo(OrderIdempotencyGuard.orderIdFor(2, KEY));
+    }
+}
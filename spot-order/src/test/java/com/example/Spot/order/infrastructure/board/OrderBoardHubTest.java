@@ -0,0 +1,93 @@
+package com.example.Spot.order.infrastructure.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class OrderBoardHubTest {
+
+    private static final UUID STORE_ID = UUID.randomUUID();
+
+    private OrderBoardHub hub;
+
+    @BeforeEach
+    void setUp() {
+        hub = new OrderBoardHub(new ObjectMapper());
+        ReflectionTestUtils.setField(hub, "bufferSize", 256);
+        ReflectionTestUtils.setField(hub, "emitterTimeout", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(hub, "idleRetention", Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("하나뿐인 연결이 끊겼다가 Last-Event-ID로 재연결하면 놓친 이벤트를 재전송한다")
+    void replaysMissedEventsAfterReconnect() {
+        SseEmitter tablet = hub.subscribe(STORE_ID, null);
+        hub.append(event(1L));
+
+        // 끊긴 연결은 heartbeat 전송 실패로 정리되지만 보드는 idle-retention 동안 남음
+        tablet.complete();
+        hub.heartbeat();
+        hub.append(event(2L));
+        hub.append(event(3L));
+
+        SseEmitter reconnected = hub.subscribe(STORE_ID, 1L);
+
+        assertThat(sentEventIds(reconnected)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("연결 없이 idle-retention이 지난 보드는 heartbeat에서 제거한다")
+    void evictsBoardAfterIdleRetention() {
+        ReflectionTestUtils.setField(hub, "idleRetention", Duration.ZERO);
+        SseEmitter first = hub.subscribe(STORE_ID, null);
+        SseEmitter second = hub.subscribe(STORE_ID, null);
+
+        first.complete();
+        hub.heartbeat();
+        assertThat(boards()).containsKey(STORE_ID);
+
+        second.complete();
+        hub.heartbeat();
+        assertThat(boards()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 매장의 이벤트로는 보드를 만들지 않는다")
+    void ignoresEventsForStoresWithoutSubscribers() {
+        hub.append(event(1L));
+
+        assertThat(boards()).isEmpty();
+    }
+
+    private static OrderBoardEvent event(long id) {
+        return OrderBoardEvent.builder().id(id).storeId(STORE_ID).build();
+    }
+
+    // MVC에 연결되기 전 emitter는 전송 내용을 내부에 쌓아 두므로 거기서 보드 이벤트만 꺼낸다
+    private static List<Long> sentEventIds(SseEmitter emitter) {
+        Set<?> sent = (Set<?>) ReflectionTestUtils.getField(emitter, ResponseBodyEmitter.class, "earlySendAttempts");
+        return sent.stream()
+                .map(data -> ((ResponseBodyEmitter.DataWithMediaType) data).getData())
+                .filter(OrderBoardEvent.class::isInstance)
+                .map(data -> ((OrderBoardEvent) data).getId())
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, ?> boards() {
+        return (Map<UUID, ?>) ReflectionTestUtils.getField(hub, "boards");
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.Spot.order.infrastructure.guard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.Spot.order.domain.enums.OrderStatus;
+import com.example.Spot.order.domain.exception.IdempotencyKeyInProgressException;
+import com.example.Spot.order.presentation.dto.request.OrderCreateRequestDto;
+import com.example.Spot.order.presentation.dto.request.OrderItemRequestDto;
+import com.example.Spot.order.presentation.dto.response.OrderResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIdempotencyGuardTest {
+
+    private static final String KEY = "retry-key-1";
+    private static final UUID STORE_ID = UUID.randomUUID();
+    private static final LocalDateTime PICKUP_TIME = LocalDateTime.of(2026, 10, 16, 12, 30);
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private ValueOperations<String, String> valueOperations;
+    @Captor private ArgumentCaptor<String> storedValue;
+
+    private OrderIdempotencyGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        guard = new OrderIdempotencyGuard(redisTemplate, new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(guard, "ttl", Duration.ofHours(24));
+        ReflectionTestUtils.setField(guard, "inProgressTtl", Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("같은 key와 같은 장바구니로 다시 보내면 저장된 응답을 돌려준다")
+    void replaysStoredResponseForSameCart() {
+        OrderCreateRequestDto request = request(2);
+        OrderResponseDto response = OrderResponseDto.fromId(OrderIdempotencyGuard.orderIdFor(1, KEY), OrderStatus.PAYMENT_PENDING);
+        givenStored(request, response);
+
+        Optional<OrderResponseDto> replayed = guard.claim(1, KEY, request(2));
+
+        assertThat(replayed).isPresent();
+        assertThat(replayed.get().getId()).isEqualTo(response.getId());
+    }
+
+    @Test
+    @DisplayName("같은 key로 다른 장바구니를 보내면 IllegalArgumentException(400)이 발생한다")
+    void rejectsDifferentCartForSameKey() {
+        OrderResponseDto response = OrderResponseDto.fromId(OrderIdempotencyGuard.orderIdFor(1, KEY), OrderStatus.PAYMENT_PENDING);
+        givenStored(request(2), response);
+
+        assertThrows(IllegalArgumentException.class, () -> guard.claim(1, KEY, request(3)));
+    }
+
+    @Test
+    @DisplayName("처음 요청이 처리 중이면 IdempotencyKeyInProgressException이 발생한다")
+    void rejectsWhileInProgress() {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn("IN_PROGRESS");
+
+        assertThrows(IdempotencyKeyInProgressException.class, () -> guard.claim(1, KEY, request(2)));
+    }
+
+    // complete()가 저장한 값을 그대로 claim()이 읽도록 연결
+    private void givenStored(OrderCreateRequestDto request, OrderResponseDto response) {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        guard.complete(1, KEY, request, response);
+        verify(valueOperations).set(eq("order:idem:1:" + KEY), storedValue.capture(), eq(Duration.ofHours(24)));
+
+        given(redisTemplate.execute(any(RedisScript.class), eq(List.of("order:idem:1:" + KEY)), any(), any()))
+                .willReturn(storedValue.getValue());
+    }
+
+    private static OrderCreateRequestDto request(int quantity) {
+        return OrderCreateRequestDto.builder()
+                .storeId(STORE_ID)
+                .pickupTime(PICKUP_TIME)
+                .orderItems(List.of(OrderItemRequestDto.builder().menuId(UUID.nameUUIDFromBytes("menu".getBytes())).quantity(quantity).build()))
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.Spot.order.infrastructure.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.kafka.support.Acknowledgment;
+
+import com.example.Spot.global.infrastructure.config.cache.NearCacheConfig;
+import com.example.Spot.global.infrastructure.config.cache.TwoLevelCache;
+import com.example.Spot.order.infrastructure.event.subscribe.MenuChangedEvent;
+import com.example.Spot.order.infrastructure.event.subscribe.StoreChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogInvalidationListenerTest {
+
+    @Mock private Acknowledgment ack;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, com.github.benmanes.caffeine.cache.Cache<Object, Object>> locals = new HashMap<>();
+    private final Map<String, Cache> remotes = new HashMap<>();
+    private CatalogInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        List<Cache> caches = new ArrayList<>();
+        for (String cacheName : NearCacheConfig.CACHE_NAMES) {
+            com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder().build();
+            Cache remote = mock(Cache.class);
+            locals.put(cacheName, local);
+            remotes.put(cacheName, remote);
+            caches.add(new TwoLevelCache(cacheName, local, remote, meterRegistry));
+        }
+        SimpleCacheManager nearCacheManager = new SimpleCacheManager();
+        nearCacheManager.setCaches(caches);
+        nearCacheManager.afterPropertiesSet();
+        listener = new CatalogInvalidationListener(nearCacheManager, objectMapper);
+    }
+
+    @Test
+    @DisplayName("가게 변경 이벤트는 가게와 변경된 스태프의 L1/L2 캐시를 모두 지운다")
+    void storeChangedEvictsLocalAndRemote() throws Exception {
+        UUID storeId = UUID.randomUUID();
+        locals.get(NearCacheConfig.STORE).put(storeId, "store");
+        locals.get(NearCacheConfig.STORE_USER).put(7, "staff");
+        String message = objectMapper.writeValueAsString(StoreChangedEvent.builder()
+                .storeId(storeId).changeType("STAFF_CHANGED").version(1L).userIds(List.of(7)).build());
+
+        listener.handleStoreChanged(message, ack);
+
+        assertThat(locals.get(NearCacheConfig.STORE).getIfPresent(storeId)).isNull();
+        assertThat(locals.get(NearCacheConfig.STORE_USER).getIfPresent(7)).isNull();
+        verify(remotes.get(NearCacheConfig.STORE)).evict(storeId);
+        verify(remotes.get(NearCacheConfig.STORE_USER)).evict(7);
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    @DisplayName("메뉴 옵션 변경 이벤트는 옵션 캐시만 L1/L2에서 지운다")
+    void menuOptionChangedEvictsOptionOnly() throws Exception {
+        UUID menuId = UUID.randomUUID();
+        UUID optionId = UUID.randomUUID();
+        locals.get(NearCacheConfig.MENU).put(menuId, "menu");
+        locals.get(NearCacheConfig.MENU_OPTION).put(optionId, "option");
+        String message = objectMapper.writeValueAsString(MenuChangedEvent.builder()
+                .menuId(menuId).menuOptionId(optionId).changeType("UPDATED").version(1L).build());
+
+        listener.handleMenuChanged(message, ack);
+
+        assertThat(locals.get(NearCacheConfig.MENU_OPTION).getIfPresent(optionId)).isNull();
+        assertThat(locals.get(NearCacheConfig.MENU).getIfPresent(menuId)).isEqualTo("menu");
+        verify(remotes.get(NearCacheConfig.MENU_OPTION)).evict(optionId);
+        verify(ack).acknowledge();
+    }
+}
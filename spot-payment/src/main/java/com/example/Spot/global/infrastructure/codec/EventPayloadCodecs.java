@@ -0,0 +1,32 @@
+package com.example.Spot.global.infrastructure.codec;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.example.Spot.global.infrastructure.kafka.RecordPayloadDecoder;
+
+/**
+ * 수신 payload 디코딩. 발행 측(spot-order 아웃박스)이 토픽별로 고른 인코딩을 payload 헤더로 판별한다.
+ */
+public class EventPayloadCodecs implements RecordPayloadDecoder {
+
+    // @KafkaListener(properties = ...)용. payload를 문자열로 바꾸지 않고 바이트 그대로 받는다
+    public static final String BYTES_VALUE_DESERIALIZER =
+            "value.deserializer=org.apache.kafka.common.serialization.ByteArrayDeserializer";
+
+    private final List<EventPayloadCodec> codecs;
+
+    public EventPayloadCodecs(List<EventPayloadCodec> codecs) {
+        this.codecs = List.copyOf(codecs);
+    }
+
+    @Override
+    public <T> T decode(byte[] payload, Class<T> type) throws IOException {
+        for (EventPayloadCodec codec : codecs) {
+            if (codec.matches(payload)) {
+                return codec.decode(payload, type);
+            }
+        }
+        throw new IOException("지원하지 않는 이벤트 payload 형식입니다. (" + payload.length + " bytes)");
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.Spot.global.infrastructure.codec;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Jackson Smile(바이너리 JSON) 인코딩.
+ * 필드 이름 공유와 UUID 바이너리 기록으로 JSON보다 작고, 문자열 파싱이 없어 디코딩 CPU도 적다.
+ * 이벤트 클래스는 JSON과 동일하게 쓰므로 스키마 관리가 따로 필요 없다.
+ */
+@RequiredArgsConstructor
+public class SmileEventPayloadCodec implements EventPayloadCodec {
+
+    public static final String NAME = "smile";
+
+    // Smile 헤더 ":)\n"
+    private static final byte[] HEADER = {':', ')', '\n'};
+
+    // SmileFactory로 만든 ObjectMapper
+    private final ObjectMapper smileMapper;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object event) throws IOException {
+        return smileMapper.writeValueAsBytes(event);
+    }
+
+    @Override
+    public <T> T decode(byte[] payload, Class<T> type) throws IOException {
+        return smileMapper.readValue(payload, type);
+    }
+
+    @Override
+    public boolean matches(byte[] payload) {
+        return payload.length >= HEADER.length
+                && payload[0] == HEADER[0]
+                && payload[1] == HEADER[1]
+                && payload[2] == HEADER[2];
+    }
+}
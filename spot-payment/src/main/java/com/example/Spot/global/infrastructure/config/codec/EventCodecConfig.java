@@ -0,0 +1,34 @@
+package com.example.Spot.global.infrastructure.config.codec;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.Spot.global.infrastructure.codec.EventPayloadCodec;
+import com.example.Spot.global.infrastructure.codec.EventPayloadCodecs;
+import com.example.Spot.global.infrastructure.codec.JsonEventPayloadCodec;
+import com.example.Spot.global.infrastructure.codec.SmileEventPayloadCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+@Configuration
+public class EventCodecConfig {
+
+    @Bean
+    public JsonEventPayloadCodec jsonEventPayloadCodec(ObjectMapper objectMapper) {
+        return new JsonEventPayloadCodec(objectMapper);
+    }
+
+    // 애플리케이션 ObjectMapper와 같은 모듈/설정(JavaTime 등)을 쓰도록 Boot의 builder로 생성
+    @Bean
+    public SmileEventPayloadCodec smileEventPayloadCodec(Jackson2ObjectMapperBuilder builder) {
+        return new SmileEventPayloadCodec(builder.factory(new SmileFactory()).build());
+    }
+
+    @Bean
+    public EventPayloadCodecs eventPayloadCodecs(List<EventPayloadCodec> codecs) {
+        return new EventPayloadCodecs(codecs);
+    }
+}
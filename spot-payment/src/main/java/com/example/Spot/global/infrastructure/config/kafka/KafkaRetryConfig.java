@@ -0,0 +1,65 @@
+package com.example.Spot.global.infrastructure.config.kafka;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.retrytopic.RetryTopicBeanNames;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+
+import com.example.Spot.global.infrastructure.kafka.RetryableRecordHandler;
+
+@Configuration
+public class KafkaRetryConfig {
+
+    /**
+     * retry/DLT 토픽 발행에 쓰는 템플릿.
+     * 수신한 byte[] payload(JSON/Smile)를 변환 없이 그대로 옮겨야 하므로 value는 ByteArraySerializer를 쓴다.
+     */
+    @Bean(RetryTopicBeanNames.DEFAULT_KAFKA_TEMPLATE_BEAN_NAME)
+    public KafkaOperations<String, byte[]> retryKafkaTemplate(ProducerFactory<Object, Object> producerFactory) {
+        Map<String, Object> props = new HashMap<>(producerFactory.getConfigurationProperties());
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props, new StringSerializer(), new ByteArraySerializer()));
+    }
+
+    /**
+     * 결제 서비스 리스너의 non-blocking 재시도 구성.
+     * {토픽}-payment-retry-0..n (지수 backoff) 후 {토픽}-payment-dlt. 역직렬화 실패(IOException)는 재시도해도 같으므로 바로 DLT로 보낸다.
+     */
+    @Bean
+    public RetryTopicConfiguration paymentRetryTopicConfiguration(
+            @Qualifier(RetryTopicBeanNames.DEFAULT_KAFKA_TEMPLATE_BEAN_NAME) KafkaOperations<String, byte[]> retryKafkaTemplate,
+            @Value("${spring.kafka.topic.order.created}") String orderCreated,
+            @Value("${spring.kafka.topic.order.cancelled}") String orderCancelled,
+            @Value("${payment.kafka.retry.attempts:4}") int attempts,
+            @Value("${payment.kafka.retry.delay-ms:1000}") long delayMs,
+            @Value("${payment.kafka.retry.multiplier:5}") double multiplier,
+            @Value("${payment.kafka.retry.max-delay-ms:60000}") long maxDelayMs,
+            @Value("${payment.kafka.topics.partitions:12}") int partitions,
+            @Value("${payment.kafka.topics.replicas:1}") short replicas) {
+        return RetryTopicConfigurationBuilder.newInstance()
+                .includeTopics(List.of(orderCreated, orderCancelled))
+                .maxAttempts(attempts)
+                .exponentialBackoff(delayMs, multiplier, maxDelayMs)
+                .suffixTopicsWithIndexValues()
+                .retryTopicSuffix("-payment-retry")
+                .dltSuffix("-payment-dlt")
+                .autoCreateTopicsWith(partitions, replicas)
+                .notRetryOn(IOException.class)
+                .traversingCauses()
+                .dltHandlerMethod(RetryableRecordHandler.BEAN_NAME, RetryableRecordHandler.DLT_HANDLER_METHOD)
+                .create(retryKafkaTemplate);
+    }
+}
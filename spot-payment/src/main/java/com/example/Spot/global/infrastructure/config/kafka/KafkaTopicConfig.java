@@ -0,0 +1,40 @@
+package com.example.Spot.global.infrastructure.config.kafka;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+/**
+ * spot-payment가 발행(아웃박스)하는 토픽 선언. KafkaAdmin이 기동 시 없으면 만들고, 파티션 수가 적으면 늘린다.
+ * 결제 이벤트도 aggregate_id가 orderId이므로 같은 주문의 결제 결과는 한 파티션에서 순서대로 소비된다.
+ */
+@Configuration
+public class KafkaTopicConfig {
+
+    @Value("${payment.kafka.topics.partitions:12}")
+    private int partitions;
+
+    @Value("${payment.kafka.topics.replicas:1}")
+    private int replicas;
+
+    @Bean
+    public KafkaAdmin.NewTopics paymentTopics(
+            @Value("${spring.kafka.topic.payment.succeeded}") String succeeded,
+            @Value("${spring.kafka.topic.payment.refunded}") String refunded,
+            @Value("${spring.kafka.topic.payment-auth.required}") String authRequired) {
+        return new KafkaAdmin.NewTopics(
+                topic(succeeded),
+                topic(refunded),
+                topic(authRequired));
+    }
+
+    private NewTopic topic(String name) {
+        return TopicBuilder.name(name)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+}
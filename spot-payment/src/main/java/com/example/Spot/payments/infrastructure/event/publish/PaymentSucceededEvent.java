@@ -12,4 +12,6 @@ import lombok.NoArgsConstructor;
 public class PaymentSucceededEvent {
     private UUID orderId;
     private Integer userId;
+    // outbox 기록 시각 (epoch millis). 주문 서비스가 Debezium 전달 지연 측정에 사용
+    private Long succeededAt;
 }
@@ -16,4 +16,6 @@ public class OrderCreatedEvent {
     private UUID orderId;
     private Integer userId;
     private Long amount;
+    // 주문 생성 시각 (epoch millis). 이전 형식의 이벤트는 null
+    private Long createdAt;
 }
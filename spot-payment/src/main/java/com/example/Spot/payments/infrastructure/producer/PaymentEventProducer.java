@@ -37,7 +37,7 @@ public class PaymentEventProducer {
     }
     
     public void reservePaymentSucceededEvent(UUID orderId, Integer userId) {
-        PaymentSucceededEvent event = new PaymentSucceededEvent(orderId, userId);
+        PaymentSucceededEvent event = new PaymentSucceededEvent(orderId, userId, System.currentTimeMillis());
         saveOutbox(paymentSucceededTopic, orderId, event);
     }
     
@@ -1,14 +1,19 @@
 package com.example.Spot.internal.controller;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.Spot.internal.dto.InternalMenuOptionResponse;
+import com.example.Spot.internal.dto.InternalMenuResolveRequest;
+import com.example.Spot.internal.dto.InternalMenuResolveResponse;
 import com.example.Spot.internal.dto.InternalMenuResponse;
 import com.example.Spot.menu.domain.entity.MenuEntity;
 import com.example.Spot.menu.domain.entity.MenuOptionEntity;
@@ -45,4 +50,25 @@ public class InternalMenuController {
 
         return ResponseEntity.ok(InternalMenuOptionResponse.from(menuOption));
     }
+
+    // 주문 생성 시 메뉴/옵션을 건별로 조회하지 않도록 IN 쿼리 한 번씩으로 일괄 조회
+    @PostMapping("/menus:resolve")
+    public ResponseEntity<InternalMenuResolveResponse> resolveMenus(@RequestBody InternalMenuResolveRequest request) {
+        List<InternalMenuResponse> menus = request.getMenuIds() == null || request.getMenuIds().isEmpty()
+                ? List.of()
+                : menuRepository.findAllById(request.getMenuIds()).stream()
+                        .map(InternalMenuResponse::from)
+                        .toList();
+
+        List<InternalMenuOptionResponse> menuOptions = request.getMenuOptionIds() == null || request.getMenuOptionIds().isEmpty()
+                ? List.of()
+                : menuOptionRepository.findAllById(request.getMenuOptionIds()).stream()
+                        .map(InternalMenuOptionResponse::from)
+                        .toList();
+
+        return ResponseEntity.ok(InternalMenuResolveResponse.builder()
+                .menus(menus)
+                .menuOptions(menuOptions)
+                .build());
+    }
 }
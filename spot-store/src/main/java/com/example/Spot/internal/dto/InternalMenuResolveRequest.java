@@ -0,0 +1,23 @@
+package com.example.Spot.internal.dto;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InternalMenuResolveRequest {
+
+    @Builder.Default
+    private Set<UUID> menuIds = new HashSet<>();
+
+    @Builder.Default
+    private Set<UUID> menuOptionIds = new HashSet<>();
+}
@@ -19,6 +19,7 @@ import com.example.Spot.menu.presentation.dto.response.CreateMenuOptionResponseD
 import com.example.Spot.menu.presentation.dto.response.MenuOptionAdminResponseDto;
 import com.example.Spot.store.domain.entity.StoreEntity;
 import com.example.Spot.store.domain.repository.StoreRepository;
+import com.example.Spot.store.infrastructure.producer.StoreEventProducer;
 
 import lombok.RequiredArgsConstructor;
 
@@ -28,6 +29,7 @@ public class MenuOptionServiceImpl implements MenuOptionService {
     private final StoreRepository storeRepository;
     private final MenuRepository menuRepository;
     private final MenuOptionRepository menuOptionRepository;
+    private final StoreEventProducer storeEventProducer;
 
     // *********** //
     // 메뉴 옵션 생성 //
@@ -87,6 +89,8 @@ public class MenuOptionServiceImpl implements MenuOptionService {
             option.changeAvailable(request.isAvailable());
         }
 
+        storeEventProducer.reserveMenuOptionChanged(storeId, menuId, optionId, "UPDATED");
+
         return MenuOptionAdminResponseDto.of(option, userRole);
     }
 
@@ -118,6 +122,8 @@ public class MenuOptionServiceImpl implements MenuOptionService {
         }
 
         option.softDelete(userId);
+
+        storeEventProducer.reserveMenuOptionChanged(storeId, menuId, optionId, "DELETED");
     }
 
     // *********** //
@@ -147,6 +153,8 @@ public class MenuOptionServiceImpl implements MenuOptionService {
         }
 
         option.changeHidden(request.isHidden());
+
+        storeEventProducer.reserveMenuOptionChanged(storeId, menuId, optionId, "HIDDEN");
     }
 
     private void validateOwner(StoreEntity store, Integer userId, Role userRole, String errorMessage) {
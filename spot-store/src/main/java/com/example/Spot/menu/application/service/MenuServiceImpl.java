@@ -24,6 +24,7 @@ import com.example.Spot.menu.presentation.dto.response.MenuPublicResponseDto;
 import com.example.Spot.menu.presentation.dto.response.MenuResponseDto;
 import com.example.Spot.store.domain.entity.StoreEntity;
 import com.example.Spot.store.domain.repository.StoreRepository;
+import com.example.Spot.store.infrastructure.producer.StoreEventProducer;
 
 import lombok.RequiredArgsConstructor;
 
@@ -33,6 +34,7 @@ public class MenuServiceImpl implements MenuService {
     private final MenuRepository menuRepository;
     private final StoreRepository storeRepository;
     private final MenuOptionRepository menuOptionRepository;
+    private final StoreEventProducer storeEventProducer;
 
     // ******* //
     // 메뉴 조회 //
@@ -220,6 +222,8 @@ public class MenuServiceImpl implements MenuService {
             menu.changeAvailable(request.isAvailable());
         }
 
+        storeEventProducer.reserveMenuChanged(store.getId(), menu.getId(), "UPDATED");
+
         List<MenuOptionEntity> options;
         boolean isAdmin = userRole == Role.MASTER || userRole == Role.MANAGER;
 
@@ -249,6 +253,8 @@ public class MenuServiceImpl implements MenuService {
         validateOwner(menu.getStore(), userId, userRole, "본인 가게의 메뉴만 삭제할 수 있습니다.");
 
         menu.softDelete(userId);
+
+        storeEventProducer.reserveMenuChanged(menu.getStore().getId(), menu.getId(), "DELETED");
     }
 
     // ******* //
@@ -267,6 +273,8 @@ public class MenuServiceImpl implements MenuService {
         validateOwner(menu.getStore(), userId, userRole, "본인 가게의 메뉴만 숨길 수 있습니다.");
 
         menu.changeHidden(request.isHidden());
+
+        storeEventProducer.reserveMenuChanged(menu.getStore().getId(), menu.getId(), "HIDDEN");
     }
 
     private void validateOwner(StoreEntity store, Integer userId, Role userRole, String errorMessage) {
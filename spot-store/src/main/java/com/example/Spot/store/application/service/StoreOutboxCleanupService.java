@@ -1,4 +1,4 @@
-package com.example.Spot.order.application.service;
+package com.example.Spot.store.application.service;
 
 import java.time.LocalDateTime;
 
@@ -6,7 +6,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.example.Spot.order.domain.repository.OrderOutboxRepository;
+import com.example.Spot.store.domain.repository.StoreOutboxRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,23 +14,24 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class OrderOutboxCleanupService {
+public class StoreOutboxCleanupService {
 
     private static final int RETENTION_DAYS = 7;
-    private final OrderOutboxRepository orderOutboxRepository;
-    
+    private final StoreOutboxRepository storeOutboxRepository;
+
     @Scheduled(cron = "0 0 3 * * *")
     @Transactional
     public void cleanup() {
         try {
             LocalDateTime threshold = LocalDateTime.now().minusDays(RETENTION_DAYS);
-            int deletedCount = orderOutboxRepository.deleteOlderThan(threshold);
+            int deletedCount = storeOutboxRepository.deleteOlderThan(threshold);
 
             if (deletedCount > 0) {
-                log.info("[Order-outbox-cleanup] deleted {} rows (threshold={})", deletedCount, threshold);
+                log.info("[STORE_OUTBOX-CLEANUP] deleted {} rows (threshold={})",
+                        deletedCount, threshold);
             }
         } catch (Exception e) {
-            log.error("[Order-outbox-cleanup] failed", e);
+            log.error("[Store-Outbox-cleanup] failed", e);
         }
     }
 }
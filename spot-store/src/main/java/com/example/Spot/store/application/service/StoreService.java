@@ -25,6 +25,7 @@ import com.example.Spot.store.domain.repository.StoreRepository;
 import com.example.Spot.store.infrastructure.aop.AdminOnly;
 import com.example.Spot.store.infrastructure.aop.StoreValidationContext;
 import com.example.Spot.store.infrastructure.aop.ValidateStoreAuthority;
+import com.example.Spot.store.infrastructure.producer.StoreEventProducer;
 import com.example.Spot.store.presentation.dto.request.StoreCreateRequest;
 import com.example.Spot.store.presentation.dto.request.StoreUpdateRequest;
 import com.example.Spot.store.presentation.dto.request.StoreUserUpdateRequest;
@@ -47,6 +48,7 @@ public class StoreService {
     private final CategoryRepository categoryRepository;
     private final MenuRepository menuRepository;
     private final UserCallService userCallService;
+    private final StoreEventProducer storeEventProducer;
     
     // *********** //
     // 매장 상세 조회 //
@@ -162,6 +164,8 @@ public class StoreService {
                 request.closeTime(),
                 categories
         );
+
+        storeEventProducer.reserveStoreChanged(store.getId(), "UPDATED");
     }
 
 
@@ -176,6 +180,8 @@ public class StoreService {
                 .orElseThrow(() -> new EntityNotFoundException("매장을 찾을 수 없습니다."));
 
         store.updateStatus(status);
+
+        storeEventProducer.reserveStoreChanged(store.getId(), "STATUS_CHANGED");
     }
     
     private boolean isServiceable(String roadAddress) {
@@ -209,6 +215,11 @@ public class StoreService {
                 store.getUsers().removeIf(su -> su.getUserId().equals(change.userId()));
             }
         }
+
+        List<Integer> changedUserIds = request.changes().stream()
+                .map(StoreUserUpdateRequest.UserChange::userId)
+                .toList();
+        storeEventProducer.reserveStoreChanged(store.getId(), "STAFF_CHANGED", changedUserIds);
     }
 
     // ******* //
@@ -237,6 +248,8 @@ public class StoreService {
         }
 
         store.softDelete(userId);
+
+        storeEventProducer.reserveStoreChanged(store.getId(), "DELETED");
     }
 
 
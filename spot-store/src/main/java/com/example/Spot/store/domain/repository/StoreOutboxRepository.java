@@ -0,0 +1,20 @@
+package com.example.Spot.store.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.Spot.store.domain.entity.StoreOutboxEntity;
+
+public interface StoreOutboxRepository extends JpaRepository<StoreOutboxEntity, UUID> {
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM StoreOutboxEntity o WHERE o.createdAt < :threshold")
+    int deleteOlderThan(@Param("threshold") LocalDateTime threshold);
+}
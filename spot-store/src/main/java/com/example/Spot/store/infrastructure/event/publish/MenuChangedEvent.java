@@ -0,0 +1,22 @@
+package com.example.Spot.store.infrastructure.event.publish;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MenuChangedEvent {
+    private UUID storeId;
+    private UUID menuId;
+    // 옵션 변경일 때만 값이 존재
+    private UUID menuOptionId;
+    private String changeType;
+    // 변경 시각(epoch millis)
+    private Long version;
+}
@@ -0,0 +1,22 @@
+package com.example.Spot.store.infrastructure.event.publish;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class StoreChangedEvent {
+    private UUID storeId;
+    private String changeType;
+    // 변경 시각(epoch millis). 추적용이며 순서 보장은 없다. 소비자는 캐시를 지우기만 하므로 순서가 바뀌어도 결과가 같다
+    private Long version;
+    // 스태프 변경 시 영향받은 userId 목록 (store-user 캐시 무효화용)
+    private List<Integer> userIds;
+}
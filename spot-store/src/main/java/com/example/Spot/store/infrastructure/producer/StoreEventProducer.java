@@ -0,0 +1,81 @@
+package com.example.Spot.store.infrastructure.producer;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.Spot.store.domain.entity.StoreOutboxEntity;
+import com.example.Spot.store.domain.repository.StoreOutboxRepository;
+import com.example.Spot.store.infrastructure.event.publish.MenuChangedEvent;
+import com.example.Spot.store.infrastructure.event.publish.StoreChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 가게/메뉴 변경 이벤트를 Outbox(p_store_outbox)에 저장 → Debezium이 Kafka로 릴레이
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreEventProducer {
+
+    private final StoreOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.kafka.topic.store.changed}")
+    private String storeChangedTopic;
+    @Value("${spring.kafka.topic.menu.changed}")
+    private String menuChangedTopic;
+
+    public void reserveStoreChanged(UUID storeId, String changeType) {
+        reserveStoreChanged(storeId, changeType, List.of());
+    }
+
+    public void reserveStoreChanged(UUID storeId, String changeType, List<Integer> userIds) {
+        StoreChangedEvent event = StoreChangedEvent.builder()
+                .storeId(storeId)
+                .changeType(changeType)
+                .version(System.currentTimeMillis())
+                .userIds(userIds)
+                .build();
+        saveOutbox("STORE", storeChangedTopic, storeId, event);
+    }
+
+    public void reserveMenuChanged(UUID storeId, UUID menuId, String changeType) {
+        reserveMenuOptionChanged(storeId, menuId, null, changeType);
+    }
+
+    public void reserveMenuOptionChanged(UUID storeId, UUID menuId, UUID menuOptionId, String changeType) {
+        MenuChangedEvent event = MenuChangedEvent.builder()
+                .storeId(storeId)
+                .menuId(menuId)
+                .menuOptionId(menuOptionId)
+                .changeType(changeType)
+                .version(System.currentTimeMillis())
+                .build();
+        // 메뉴 단위로 파티셔닝되도록 aggregateId는 menuId 사용
+        saveOutbox("MENU", menuChangedTopic, menuId, event);
+    }
+
+    private void saveOutbox(String aggregateType, String topic, UUID aggregateId, Object event) {
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+
+            StoreOutboxEntity outbox = StoreOutboxEntity.builder()
+                    .aggregateType(aggregateType)
+                    .aggregateId(aggregateId)
+                    .eventType(topic)
+                    .payload(payload)
+                    .build();
+
+            outboxRepository.save(outbox);
+            log.info("[Outbox 저장 성공] topic:{}, AggregateId:{}", topic, aggregateId);
+        } catch (JsonProcessingException e) {
+            log.error("[Outbox 저장 실패] AggregateId={}, error={}", aggregateId, e.getMessage());
+            throw new RuntimeException("이벤트 발행 예약 중 오류 발생", e);
+        }
+    }
+}
@@ -32,6 +32,7 @@ import com.example.Spot.store.domain.repository.CategoryRepository;
 import com.example.Spot.store.domain.repository.StoreCategoryRepository;
 import com.example.Spot.store.domain.repository.StoreRepository;
 import com.example.Spot.store.infrastructure.aop.StoreValidationContext;
+import com.example.Spot.store.infrastructure.producer.StoreEventProducer;
 import com.example.Spot.store.presentation.dto.request.StoreCreateRequest;
 import com.example.Spot.store.presentation.dto.request.StoreUpdateRequest;
 
@@ -44,6 +45,7 @@ class StoreServiceTest {
     @Mock private StoreCategoryRepository storeCategoryRepository;
     @Mock private MenuRepository menuRepository;
     @Mock private UserCallService userCallService;
+    @Mock private StoreEventProducer storeEventProducer;
 
     @InjectMocks
     private StoreService storeService;
@@ -105,6 +107,7 @@ class StoreServiceTest {
 
         // then
         assertThat(store.getName()).isEqualTo("새이름");
+        verify(storeEventProducer).reserveStoreChanged(store.getId(), "UPDATED");
     }
 
     @Test
@@ -0,0 +1,79 @@
+package com.example.Spot.store.infrastructure.producer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.Spot.store.domain.entity.StoreOutboxEntity;
+import com.example.Spot.store.domain.repository.StoreOutboxRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class StoreEventProducerTest {
+
+    private static final String STORE_TOPIC = "spot.store.changed";
+    private static final String MENU_TOPIC = "spot.menu.changed";
+
+    @Mock private StoreOutboxRepository outboxRepository;
+    @Captor private ArgumentCaptor<StoreOutboxEntity> saved;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StoreEventProducer producer;
+
+    @BeforeEach
+    void setUp() {
+        producer = new StoreEventProducer(outboxRepository, objectMapper);
+        ReflectionTestUtils.setField(producer, "storeChangedTopic", STORE_TOPIC);
+        ReflectionTestUtils.setField(producer, "menuChangedTopic", MENU_TOPIC);
+    }
+
+    @Test
+    @DisplayName("가게 변경은 storeId를 aggregate로 p_store_outbox에 가게 변경 이벤트를 저장한다")
+    void storeChangeWritesOutboxRow() throws Exception {
+        UUID storeId = UUID.randomUUID();
+
+        producer.reserveStoreChanged(storeId, "STAFF_CHANGED", List.of(7, 8));
+
+        verify(outboxRepository).save(saved.capture());
+        StoreOutboxEntity outbox = saved.getValue();
+        assertThat(outbox.getAggregateType()).isEqualTo("STORE");
+        assertThat(outbox.getAggregateId()).isEqualTo(storeId);
+        assertThat(outbox.getEventType()).isEqualTo(STORE_TOPIC);
+        JsonNode payload = objectMapper.readTree(outbox.getPayload());
+        assertThat(payload.get("storeId").asText()).isEqualTo(storeId.toString());
+        assertThat(payload.get("changeType").asText()).isEqualTo("STAFF_CHANGED");
+        assertThat(payload.get("userIds")).extracting(JsonNode::asInt).containsExactly(7, 8);
+    }
+
+    @Test
+    @DisplayName("메뉴 옵션 변경은 menuId를 aggregate로 저장해 같은 메뉴의 이벤트가 한 파티션으로 간다")
+    void menuOptionChangeWritesOutboxRowKeyedByMenu() throws Exception {
+        UUID storeId = UUID.randomUUID();
+        UUID menuId = UUID.randomUUID();
+        UUID optionId = UUID.randomUUID();
+
+        producer.reserveMenuOptionChanged(storeId, menuId, optionId, "DELETED");
+
+        verify(outboxRepository).save(saved.capture());
+        StoreOutboxEntity outbox = saved.getValue();
+        assertThat(outbox.getAggregateType()).isEqualTo("MENU");
+        assertThat(outbox.getAggregateId()).isEqualTo(menuId);
+        assertThat(outbox.getEventType()).isEqualTo(MENU_TOPIC);
+        JsonNode payload = objectMapper.readTree(outbox.getPayload());
+        assertThat(payload.get("menuOptionId").asText()).isEqualTo(optionId.toString());
+        assertThat(payload.get("changeType").asText()).isEqualTo("DELETED");
+    }
+}